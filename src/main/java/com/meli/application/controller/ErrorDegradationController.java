@@ -0,0 +1,53 @@
+package com.meli.application.controller;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.meli.application.dto.GenericResponseDto;
+import com.meli.common.exception.handler.ErrorDegradationManager;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Mono;
+
+/**
+ * Endpoint de diagnóstico que expone las métricas de la degradación adaptativa de la persistencia
+ * de errores (ver {@link ErrorDegradationManager}).
+ *
+ * <p>La ruta se configura con {@code app.error-degradation.path} y el endpoint solo existe con
+ * {@code app.error-degradation.endpoint-enabled=true}. No tiene autenticación propia y expone las
+ * rutas con errores, por lo que debe quedar detrás de la seguridad de la aplicación anfitriona.</p>
+ */
+@RestController
+@RequestMapping("${app.error-degradation.path:/diagnostics/error-degradation}")
+@ConditionalOnProperty(prefix = "app.error-degradation", name = "endpoint-enabled", havingValue = "true")
+@Tag(name = "Diagnóstico", description = "Estado de la degradación de la persistencia de errores")
+public class ErrorDegradationController {
+
+    private final ErrorDegradationManager errorDegradationManager;
+
+    public ErrorDegradationController(ErrorDegradationManager errorDegradationManager) {
+        this.errorDegradationManager = errorDegradationManager;
+    }
+
+    @GetMapping
+    @Operation(summary = "Estado de la persistencia de errores por origen y contadores de transiciones")
+    public Mono<GenericResponseDto> getStatus() {
+        return Mono.fromSupplier(() -> GenericResponseDto.builder()
+                .success(true)
+                .origin("/error-degradation")
+                .message("Estado de la degradación de errores")
+                .documents(Map.of(
+                        "degradedOrigins", errorDegradationManager.getDegradedOrigins(),
+                        "transitions", errorDegradationManager.getTransitions(),
+                        "notPersisted", errorDegradationManager.getSkipped(),
+                        "origins", errorDegradationManager.getOrigins()))
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+}
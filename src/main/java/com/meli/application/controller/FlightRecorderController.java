@@ -0,0 +1,69 @@
+package com.meli.application.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.meli.application.dto.GenericResponseDto;
+import com.meli.common.utils.enums.TraceabilityStatus;
+import com.meli.provider.sink.FlightRecorder;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Mono;
+
+/**
+ * Endpoint de diagnóstico que expone los últimos registros de trazabilidad y errores de servicio
+ * conservados en memoria por el {@link FlightRecorder}.
+ *
+ * <p>La ruta base se configura con {@code app.flight-recorder.path}. El endpoint solo existe con
+ * {@code app.flight-recorder.enabled=true} y no tiene autenticación propia: debe quedar detrás de
+ * la seguridad de la aplicación anfitriona.</p>
+ */
+@RestController
+@RequestMapping("${app.flight-recorder.path:/diagnostics/flight-recorder}")
+@ConditionalOnProperty(prefix = "app.flight-recorder", name = "enabled", havingValue = "true")
+@Tag(name = "Diagnóstico", description = "Consulta de los registros recientes conservados en memoria")
+public class FlightRecorderController {
+
+    private final FlightRecorder flightRecorder;
+
+    public FlightRecorderController(FlightRecorder flightRecorder) {
+        this.flightRecorder = flightRecorder;
+    }
+
+    @GetMapping("/traceability")
+    @Operation(summary = "Últimos registros de trazabilidad, del más nuevo al más antiguo")
+    public Mono<GenericResponseDto> findTraceability(@RequestParam(required = false) String transactionId,
+            @RequestParam(required = false) String origin,
+            @RequestParam(required = false) TraceabilityStatus status,
+            @RequestParam(required = false) Integer limit) {
+        return Mono.fromSupplier(() -> response("/traceability",
+                flightRecorder.findTraceability(transactionId, origin, status, limit)));
+    }
+
+    @GetMapping("/service-errors")
+    @Operation(summary = "Últimos errores de servicio, del más nuevo al más antiguo")
+    public Mono<GenericResponseDto> findServiceErrors(@RequestParam(required = false) String transactionId,
+            @RequestParam(required = false) String origin,
+            @RequestParam(required = false) Boolean success,
+            @RequestParam(required = false) Integer limit) {
+        return Mono.fromSupplier(() -> response("/service-errors",
+                flightRecorder.findServiceErrors(transactionId, origin, success, limit)));
+    }
+
+    private GenericResponseDto response(String origin, List<?> documents) {
+        return GenericResponseDto.builder()
+                .success(true)
+                .origin(origin)
+                .message(documents.size() + " registros encontrados")
+                .documents(documents)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.meli.application.controller;
+
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.meli.application.dto.GenericResponseDto;
+import com.meli.common.utils.log.LogLevels;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Mono;
+
+/**
+ * Endpoint de diagnóstico para consultar y cambiar el nivel de log de {@link com.meli.common.utils.log.ServiceLogger}
+ * sin reiniciar el servicio.
+ *
+ * <p>La ruta se configura con {@code app.log.level-path} y el endpoint solo existe con
+ * {@code app.log.level-endpoint-enabled=true}. No tiene autenticación propia y permite, por ejemplo,
+ * pasar el servicio a {@code ALL} e inundar el canal de logs, por lo que debe quedar detrás de la
+ * seguridad de la aplicación anfitriona. El nivel también puede cambiarse con el parámetro
+ * {@code LOG_LEVEL} de {@code coll_param}; prevalece el último cambio.</p>
+ */
+@RestController
+@RequestMapping("${app.log.level-path:/diagnostics/log-level}")
+@ConditionalOnProperty(prefix = "app.log", name = "level-endpoint-enabled", havingValue = "true")
+@Tag(name = "Diagnóstico", description = "Consulta y cambio del nivel de log")
+public class LogLevelController {
+
+    @GetMapping
+    @Operation(summary = "Nivel de log vigente")
+    public Mono<GenericResponseDto> getLevel() {
+        return Mono.fromSupplier(() -> response(true, "Nivel de log vigente"));
+    }
+
+    @PutMapping
+    @Operation(summary = "Cambia el nivel de log vigente")
+    public Mono<ResponseEntity<GenericResponseDto>> setLevel(@RequestParam String level) {
+        return Mono.fromSupplier(() -> {
+            try {
+                LogLevels.setLevel(level);
+                return ResponseEntity.ok(response(true, "Nivel de log actualizado"));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(response(false, "Nivel de log no válido: " + level));
+            }
+        });
+    }
+
+    private GenericResponseDto response(boolean success, String message) {
+        return GenericResponseDto.builder()
+                .success(success)
+                .origin("/log-level")
+                .message(message)
+                .documents(LogLevels.getLevel())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
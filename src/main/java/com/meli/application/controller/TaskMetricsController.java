@@ -0,0 +1,49 @@
+package com.meli.application.controller;
+
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.meli.application.dto.GenericResponseDto;
+import com.meli.common.utils.metrics.TaskMetrics;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Mono;
+
+/**
+ * Endpoint de diagnóstico que expone las métricas acumuladas por tarea (ver {@link TaskMetrics}):
+ * ejecuciones, tasa de errores y percentiles de latencia.
+ *
+ * <p>La ruta se configura con {@code app.task-metrics.path} y el endpoint solo existe con
+ * {@code app.task-metrics.endpoint-enabled=true}. No tiene autenticación propia y expone las tareas
+ * del servicio con sus tasas de error y latencias, por lo que debe quedar detrás de la seguridad de
+ * la aplicación anfitriona.</p>
+ */
+@RestController
+@RequestMapping("${app.task-metrics.path:/diagnostics/task-metrics}")
+@ConditionalOnProperty(prefix = "app.task-metrics", name = "endpoint-enabled", havingValue = "true")
+@Tag(name = "Diagnóstico", description = "Métricas de latencia por tarea")
+public class TaskMetricsController {
+
+    private final TaskMetrics taskMetrics;
+
+    public TaskMetricsController(TaskMetrics taskMetrics) {
+        this.taskMetrics = taskMetrics;
+    }
+
+    @GetMapping
+    @Operation(summary = "Ejecuciones, errores y percentiles de latencia de cada tarea")
+    public Mono<GenericResponseDto> getMetrics() {
+        return Mono.fromSupplier(() -> GenericResponseDto.builder()
+                .success(true)
+                .origin("/task-metrics")
+                .message("Métricas por tarea")
+                .documents(taskMetrics.getTasks())
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+}
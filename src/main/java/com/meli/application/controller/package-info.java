@@ -0,0 +1,5 @@
+/**
+ * Este paquete contiene los controladores que la librería expone a los microservicios que la utilizan,
+ * como los endpoints de diagnóstico.
+ */
+package com.meli.application.controller;
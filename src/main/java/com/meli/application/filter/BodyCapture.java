@@ -0,0 +1,130 @@
+package com.meli.application.filter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+
+import com.meli.common.configuration.HttpFilterConfig;
+import com.meli.common.utils.enums.BodyCapturePolicy;
+
+/**
+ * Captura acotada del cuerpo de una solicitud o respuesta HTTP.
+ *
+ * <p>
+ * Se usa como "tee": los {@link DataBuffer} originales continúan su camino hacia
+ * el handler o el cliente sin modificarse, y de ellos solo se copia un prefijo de
+ * como máximo {@code maxBytes} bytes (y {@code maxChunks} fragmentos) para
+ * trazabilidad y logs. Cuando el cuerpo supera el límite, el texto resultante
+ * incluye un marcador de truncamiento con el tamaño total observado.
+ * </p>
+ */
+public class BodyCapture {
+
+    private static final String TRUNCATION_MARKER = "...[truncado, %d bytes en total]";
+    private static final String OMITTED_MARKER = "[cuerpo omitido, %d bytes]";
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final int maxBytes;
+    private final int maxChunks;
+    private byte[] prefix;
+    private int captured;
+    private int chunks;
+    private long totalBytes;
+
+    public BodyCapture(int maxBytes) {
+        this(maxBytes, Integer.MAX_VALUE);
+    }
+
+    public BodyCapture(int maxBytes, int maxChunks) {
+        this.maxBytes = Math.max(0, maxBytes);
+        this.maxChunks = Math.max(0, maxChunks);
+    }
+
+    /**
+     * Crea la captura adecuada para un tipo de contenido según la política
+     * configurada.
+     *
+     * @param config      La configuración del filtro HTTP.
+     * @param contentType El tipo de contenido del cuerpo, puede ser nulo.
+     * @return Una nueva captura para el cuerpo.
+     */
+    public static BodyCapture forContentType(HttpFilterConfig config, MediaType contentType) {
+        BodyCapturePolicy policy = config.policyFor(contentType);
+        switch (policy) {
+            case NONE:
+                return new BodyCapture(0, 0);
+            case SAMPLE:
+                return new BodyCapture(config.getMaxBodyBytes(), config.getSampleChunks());
+            default:
+                return new BodyCapture(config.getMaxBodyBytes());
+        }
+    }
+
+    /**
+     * Registra un fragmento del cuerpo sin alterar su posición de lectura.
+     *
+     * @param buffer El fragmento que fluye hacia su destino.
+     */
+    public void append(DataBuffer buffer) {
+        int readable = buffer.readableByteCount();
+        totalBytes += readable;
+        if (chunks >= maxChunks) {
+            return;
+        }
+        chunks++;
+        int toCopy = Math.min(readable, maxBytes - captured);
+        if (toCopy <= 0) {
+            return;
+        }
+        ensureCapacity(captured + toCopy);
+        buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(prefix), captured, toCopy);
+        captured += toCopy;
+    }
+
+    /**
+     * Indica si el cuerpo superó el límite de captura.
+     *
+     * @return {@code true} si se descartaron bytes del cuerpo.
+     */
+    public boolean isTruncated() {
+        return totalBytes > captured;
+    }
+
+    /**
+     * Obtiene el total de bytes observados del cuerpo, capturados o no.
+     *
+     * @return El tamaño total del cuerpo.
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Representación del prefijo capturado como texto UTF-8, con el marcador de
+     * truncamiento cuando aplica.
+     *
+     * @return El cuerpo capturado.
+     */
+    @Override
+    public String toString() {
+        if (maxBytes == 0 || maxChunks == 0) {
+            return totalBytes > 0 ? String.format(OMITTED_MARKER, totalBytes) : "";
+        }
+        if (captured == 0) {
+            return isTruncated() ? String.format(TRUNCATION_MARKER, totalBytes) : "";
+        }
+        String body = new String(prefix, 0, captured, StandardCharsets.UTF_8);
+        return isTruncated() ? body + String.format(TRUNCATION_MARKER, totalBytes) : body;
+    }
+
+    private void ensureCapacity(int required) {
+        if (prefix == null) {
+            prefix = new byte[Math.min(maxBytes, Math.max(INITIAL_CAPACITY, required))];
+        } else if (prefix.length < required) {
+            prefix = Arrays.copyOf(prefix, Math.min(maxBytes, Math.max(prefix.length * 2, required)));
+        }
+    }
+}
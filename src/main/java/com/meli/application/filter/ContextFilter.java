@@ -7,28 +7,71 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
+
+import com.meli.common.utils.context.TransactionContext;
+import com.meli.common.utils.context.TransactionContextPropagation;
+import com.meli.common.utils.context.TransactionIdResolver;
+
+import co.elastic.apm.api.ElasticApm;
 import reactor.core.publisher.Mono;
 
+/**
+ * Filtro que abre el {@link TransactionContext} de cada solicitud.
+ *
+ * <p>El identificador de la transacción se toma de la solicitud o se genera (ver
+ * {@link TransactionIdResolver}) y se devuelve en la cabecera de respuesta
+ * configurada. El contexto viaja en el {@link reactor.util.context.Context} de
+ * Reactor y se restablece en el hilo que procesa cada etapa del pipeline, por lo
+ * que no depende del hilo que recibió la solicitud. El identificador se agrega
+ * además como etiqueta de la transacción de APM en curso.</p>
+ */
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class ContextFilter implements WebFilter {
 
-    private static final ThreadLocal<ServerWebExchange> exchangeHolder = new ThreadLocal<>();
-
+    /**
+     * Obtiene el exchange de la solicitud en curso en el hilo actual.
+     *
+     * @return El exchange, o {@code null} fuera de una solicitud.
+     * @deprecated Usar {@link TransactionContext#currentExchange()} o, en código
+     *             reactivo, {@link TransactionContext#deferred()}.
+     */
+    @Deprecated
     public static ServerWebExchange getCurrentExchange() {
-        return exchangeHolder.get();
+        return TransactionContext.currentExchange();
     }
 
+    /**
+     * Fija el exchange de la solicitud en curso en el hilo actual.
+     *
+     * @param exchange El exchange, o {@code null} para quitarlo.
+     * @deprecated El contexto se propaga con el {@link reactor.util.context.Context}
+     *             de Reactor; este método solo afecta al hilo actual. Usar
+     *             {@link TransactionContext#run(Runnable)} para ejecutar código con
+     *             el contexto de una solicitud.
+     */
+    @Deprecated
     public static void setCurrentExchange(ServerWebExchange exchange) {
-        exchangeHolder.set(exchange);
+        TransactionContext.bindToCurrentThread(exchange);
+    }
+
+    private final TransactionIdResolver transactionIdResolver;
+
+    public ContextFilter(TransactionIdResolver transactionIdResolver) {
+        this.transactionIdResolver = transactionIdResolver;
     }
 
     @Override
     @NonNull
     public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
-        ContextFilter.setCurrentExchange(exchange);
-        return chain.filter(exchange)
-                .contextWrite(ctx -> ctx.put(ServerWebExchange.class, exchange))
-                .doFinally(signalType -> exchangeHolder.remove());
+        TransactionContext context = TransactionContext.create(exchange,
+                transactionIdResolver.resolve(exchange.getRequest().getHeaders()));
+        String responseHeader = transactionIdResolver.getResponseHeader();
+        if (responseHeader != null && !responseHeader.isEmpty()) {
+            exchange.getResponse().getHeaders().set(responseHeader, context.getTransactionId());
+        }
+        ElasticApm.currentTransaction().setLabel("transactionId", context.getTransactionId());
+        return TransactionContextPropagation.scoped(Mono.defer(() -> chain.filter(exchange)), context)
+                .contextWrite(ctx -> ctx.put(ServerWebExchange.class, exchange));
     }
 }
@@ -1,11 +1,11 @@
 package com.meli.application.filter;
 
-import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.reactivestreams.Publisher;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
@@ -18,10 +18,20 @@ import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 
 import com.meli.application.service.TraceabilityService;
+import com.meli.common.configuration.HttpFilterConfig;
+import com.meli.common.configuration.LogConfig;
+import com.meli.common.exception.handler.ErrorDegradationManager;
+import com.meli.common.utils.context.TransactionContext;
 import com.meli.common.utils.enums.LogLevel;
 import com.meli.common.utils.enums.TraceabilityStatus;
+import com.meli.common.utils.log.RequestLogBuffer;
 import com.meli.common.utils.log.ServiceLogger;
+import com.meli.common.utils.metrics.TaskMetrics;
+import com.meli.common.utils.sampling.SamplingDecision;
+import com.meli.common.utils.sampling.SamplingService;
+import com.meli.common.utils.tasks.Task;
 import com.meli.common.utils.tasks.TaskService;
+import com.meli.common.utils.tasks.TraceabilityTask;
 import com.meli.common.utils.tasks.TraceabilityTaskService;
 import com.meli.core.entity.Traceability;
 
@@ -40,8 +50,16 @@ import reactor.core.publisher.Mono;
  * solicitud.</li>
  * <li>Registrar el tiempo de inicio y fin de procesamiento de la
  * solicitud.</li>
- * <li>Loguear detalles de la solicitud y la respuesta.</li>
- * <li>Crear un registro de trazabilidad para cada solicitud y respuesta.</li>
+ * <li>Loguear detalles de la solicitud y la respuesta, conservando solo un
+ * prefijo acotado de cada cuerpo según su tipo de contenido (ver
+ * {@link BodyCapture}), sin bufferizar respuestas en streaming.</li>
+ * <li>Crear un único registro de trazabilidad por transacción con todos sus
+ * eventos (ver {@link TraceabilityAccumulator}) para cada solicitud muestreada
+ * por {@link SamplingService} o, en el modo de retención, solo para las
+ * solicitudes fallidas o lentas.</li>
+ * <li>Registrar la latencia y el resultado de cada solicitud en {@link TaskMetrics}.</li>
+ * <li>Agrupar, según {@code app.log.request-buffer-mode}, los logs de la solicitud
+ * en un único registro publicado al finalizar (ver {@link RequestLogBuffer}).</li>
  * </ul>
  */
 @Component
@@ -49,112 +67,167 @@ public class HttpFilter implements WebFilter {
 
     private final ServiceLogger<HttpFilter> logger = new ServiceLogger<>(HttpFilter.class);
     private final TraceabilityService traceabilityService;
-    private final TaskService taskService;
-    private final TraceabilityTaskService traceabilityTaskService;
+    private final HttpFilterConfig httpFilterConfig;
+    private final SamplingService samplingService;
+    private final LogConfig logConfig;
+    private final TaskMetrics taskMetrics;
+
+    // Tareas resueltas una única vez: cada solicitud las usa sin consultar los registros
+    private final Task requestFilterTask;
+    private final Task responseFilterTask;
+    private final TraceabilityTask startRequestTask;
+    private final TraceabilityTask endRequestTask;
+    private final TraceabilityTask transactionTask;
 
     public HttpFilter(TraceabilityService traceabilityService, TaskService taskService,
-            TraceabilityTaskService traceabilityTaskService) {
+            TraceabilityTaskService traceabilityTaskService, HttpFilterConfig httpFilterConfig,
+            SamplingService samplingService, LogConfig logConfig, TaskMetrics taskMetrics) {
         this.traceabilityService = traceabilityService;
-        this.taskService = taskService;
-        this.traceabilityTaskService = traceabilityTaskService;
+        this.httpFilterConfig = httpFilterConfig;
+        this.samplingService = samplingService;
+        this.logConfig = logConfig;
+        this.taskMetrics = taskMetrics;
+        this.requestFilterTask = taskService.getTask("HTTP_REQUEST_FILTER");
+        this.responseFilterTask = taskService.getTask("HTTP_RESPONSE_FILTER");
+        this.startRequestTask = traceabilityTaskService.getTask("START_REQUEST");
+        this.endRequestTask = traceabilityTaskService.getTask("END_REQUEST");
+        this.transactionTask = traceabilityTaskService.getTask("TRANSACTION");
     }
 
     @Override
     @NonNull
     public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
-        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        SamplingDecision decision = samplingService.decide(exchange);
+        RequestLogBuffer logBuffer = RequestLogBuffer.attach(exchange, logConfig.getRequestBufferMode(),
+                logConfig.getRequestBufferMaxEntries());
 
-        // AtomicReference para mantener el cuerpo de la solicitud
-        AtomicReference<String> requestBodyRef = new AtomicReference<>("");
-        AtomicReference<String> responseBodyRef = new AtomicReference<>("");
+        // Sin modo de retención, las solicitudes descartadas por el muestreo pasan sin decorar
+        if (!decision.isSampled() && !samplingService.isTailEnabled()) {
+            return chain.filter(exchange).doFinally(signalType -> {
+                boolean failed = isFailure(exchange);
+                taskMetrics.record(requestFilterTask, System.nanoTime() - startNanos, failed);
+                if (logBuffer != null) {
+                    RequestLogBuffer.flush(exchange, failed);
+                }
+            });
+        }
+        TraceabilityAccumulator accumulator = TraceabilityAccumulator.attach(exchange,
+                httpFilterConfig.getMaxTraceabilityEvents());
 
+        // Capturas acotadas de los cuerpos: los buffers originales fluyen sin copiarse
         ServerHttpRequest request = exchange.getRequest();
-        return DataBufferUtils.join(request.getBody())
-                .defaultIfEmpty(exchange.getResponse().bufferFactory().wrap(new byte[0])) // Handle empty body
-                .flatMap(dataBuffer -> {
-                    // Convertir el buffer a string
-                    byte[] bytes = new byte[dataBuffer.readableByteCount()];
-                    dataBuffer.read(bytes);
-                    DataBufferUtils.release(dataBuffer); // Release data buffer
-                    String bodyString = new String(bytes, StandardCharsets.UTF_8);
-                    requestBodyRef.set(bodyString);
-
-                    // Crear un nuevo DataBuffer a partir del byte array
-                    DataBuffer newDataBuffer = exchange.getResponse().bufferFactory().wrap(bytes);
-
-                    // Decorar el request con el nuevo DataBuffer
-                    ServerHttpRequest decoratedRequest = new ServerHttpRequestDecorator(request) {
-                        @Override
-                        @NonNull
-                        public Flux<DataBuffer> getBody() {
-                            return Flux.just(newDataBuffer);
-                        }
-                    };
-
-                    // Decorar el response para capturar el cuerpo de la respuesta
-                    ServerHttpResponse decoratedResponse = new ServerHttpResponseDecorator(exchange.getResponse()) {
-                        @Override
-                        @NonNull
-                        public Mono<Void> writeWith(@NonNull Publisher<? extends DataBuffer> body) {
-                            return DataBufferUtils.join(body)
-                                    .flatMap(buffer -> {
-                                        byte[] responseBytes = new byte[buffer.readableByteCount()];
-                                        buffer.read(responseBytes);
-                                        DataBufferUtils.release(buffer); // Release data buffer
-                                        String responseBodyString = new String(responseBytes, StandardCharsets.UTF_8);
-                                        responseBodyRef.set(responseBodyString);
-
-                                        // Crear un nuevo DataBuffer a partir del byte array
-                                        DataBuffer newResponseDataBuffer = exchange.getResponse().bufferFactory()
-                                                .wrap(responseBytes);
-                                        return super.writeWith(Flux.just(newResponseDataBuffer));
-                                    });
-                        }
-                    };
-
-                    // Crear un nuevo ServerWebExchange con el ServerHttpRequest y
-                    // ServerHttpResponse decorados
-                    ServerWebExchange mutatedExchange = exchange.mutate().request(decoratedRequest)
-                            .response(decoratedResponse).build();
-
-                    // Continuar con el procesamiento de la solicitud
-                    return chain.filter(mutatedExchange)
-                    .doOnSubscribe(subscription -> processRequestBody(exchange, bodyString))
-                    .doFinally(signalType -> {
-                        long endTime = System.currentTimeMillis();
-                        String requestBody = requestBodyRef.get();
-                        String responseBody = responseBodyRef.get();
-                        ContextFilter.setCurrentExchange(mutatedExchange);
-                        processResponseBody(mutatedExchange, endTime - startTime, requestBody, responseBody);
+        BodyCapture requestCapture = BodyCapture.forContentType(httpFilterConfig,
+                request.getHeaders().getContentType());
+        // La captura de la respuesta depende de su Content-Type, conocido solo al escribir
+        AtomicReference<BodyCapture> responseCaptureRef = new AtomicReference<>();
+        AtomicBoolean requestLogged = new AtomicBoolean(false);
+
+        // Decorar el request para capturar el cuerpo a medida que el handler lo consume
+        ServerHttpRequest decoratedRequest = new ServerHttpRequestDecorator(request) {
+            @Override
+            @NonNull
+            public Flux<DataBuffer> getBody() {
+                return super.getBody()
+                        .doOnNext(requestCapture::append)
+                        .doOnTerminate(() -> logRequestOnce(exchange, accumulator, requestCapture, requestLogged));
+            }
+        };
+
+        // Decorar el response para capturar el cuerpo de la respuesta
+        ServerHttpResponse decoratedResponse = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            @NonNull
+            public Mono<Void> writeWith(@NonNull Publisher<? extends DataBuffer> body) {
+                BodyCapture capture = responseCapture();
+                return super.writeWith(Flux.from(body).doOnNext(capture::append));
+            }
+
+            @Override
+            @NonNull
+            public Mono<Void> writeAndFlushWith(@NonNull Publisher<? extends Publisher<? extends DataBuffer>> body) {
+                BodyCapture capture = responseCapture();
+                return super.writeAndFlushWith(Flux.from(body)
+                        .map(chunk -> Flux.from(chunk).doOnNext(capture::append)));
+            }
+
+            private BodyCapture responseCapture() {
+                return responseCaptureRef.updateAndGet(current -> current != null ? current
+                        : BodyCapture.forContentType(httpFilterConfig, getHeaders().getContentType()));
+            }
+        };
+
+        // Crear un nuevo ServerWebExchange con el ServerHttpRequest y
+        // ServerHttpResponse decorados
+        ServerWebExchange mutatedExchange = exchange.mutate().request(decoratedRequest)
+                .response(decoratedResponse).build();
+
+        // Continuar con el procesamiento de la solicitud
+        return chain.filter(mutatedExchange)
+                .doOnSubscribe(subscription -> {
+                    // Sin cuerpo que esperar, la entrada se registra de inmediato
+                    if (!hasBody(request)) {
+                        logRequestOnce(exchange, accumulator, requestCapture, requestLogged);
+                    }
+                })
+                .doFinally(signalType -> {
+                    long duration = accumulator.elapsedMillis();
+                    taskMetrics.record(requestFilterTask, System.nanoTime() - startNanos, isFailure(exchange));
+                    // doFinally puede ejecutarse en cualquier hilo, incluso tras una cancelación
+                    TransactionContext.of(exchange).run(() -> {
+                        logRequestOnce(exchange, accumulator, requestCapture, requestLogged);
+                        processResponseBody(mutatedExchange, accumulator, decision, duration, requestCapture,
+                                responseCaptureRef.get());
+                        RequestLogBuffer.flush(exchange, isFailure(exchange));
                     });
                 });
     }
 
-    private void processRequestBody(ServerWebExchange exchange, Object body) {
+    private boolean hasBody(ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        return headers.getContentLength() > 0 || headers.containsKey(HttpHeaders.TRANSFER_ENCODING);
+    }
+
+    private void logRequestOnce(ServerWebExchange exchange, TraceabilityAccumulator accumulator,
+            BodyCapture requestCapture, AtomicBoolean requestLogged) {
+        if (requestLogged.compareAndSet(false, true)) {
+            processRequestBody(exchange, accumulator, requestCapture);
+        }
+    }
+
+    private boolean isFailure(ServerWebExchange exchange) {
+        TraceabilityStatus traceabilityStatus = exchange.getAttribute("TRACEABILITY_STATUS");
+        HttpStatusCode httpStatusCode = exchange.getResponse().getStatusCode();
+        return traceabilityStatus == TraceabilityStatus.FAILED || traceabilityStatus == TraceabilityStatus.ERROR
+                || httpStatusCode == null || !httpStatusCode.is2xxSuccessful();
+    }
+
+    private void processRequestBody(ServerWebExchange exchange, TraceabilityAccumulator accumulator,
+            BodyCapture requestCapture) {
         ServerHttpRequest request = exchange.getRequest();
-        String requestId = exchange.getLogPrefix();
 
-        traceabilityService.createTraceability(Traceability.builder()
-                .transactionId(requestId)
+        accumulator.add(Traceability.builder()
                 .status(TraceabilityStatus.SUCCESS)
-                .origin(request.getPath().toString())
-                .method(request.getMethod())
-                .task(traceabilityTaskService.getTaskById("START_REQUEST").get())
-                .request(body.toString())
+                .task(startRequestTask)
                 .build());
 
-        logger.log("Entrada Principal - " + request.getMethod() + " -> " + request.getPath().pathWithinApplication().value(),
-                taskService.getTaskById("HTTP_REQUEST_FILTER").get(),
+        logger.log(() -> "Entrada Principal - " + request.getMethod() + " -> " + request.getPath().pathWithinApplication().value(),
+                requestFilterTask,
                 LogLevel.INFO,
-                body.toString(),
+                requestCapture::toString,
                 null);
     }
 
-    private void processResponseBody(ServerWebExchange exchange, long duration,
-            Object requestBody, Object responseBody) {
+    /**
+     * Registra la salida de la solicitud y escribe el documento consolidado de la
+     * transacción. En el modo de retención, el documento de una solicitud no
+     * muestreada solo se escribe si falló o superó el umbral de latencia de su ruta.
+     */
+    private void processResponseBody(ServerWebExchange exchange, TraceabilityAccumulator accumulator,
+            SamplingDecision decision, long duration, BodyCapture requestCapture, BodyCapture responseCapture) {
         ServerHttpRequest request = exchange.getRequest();
         ServerHttpResponse response = exchange.getResponse();
-        String transactionId = exchange.getLogPrefix();
+        String transactionId = TransactionContext.of(exchange).getTransactionId();
         TraceabilityStatus traceabilityStatus = exchange.getAttribute("TRACEABILITY_STATUS");
         HttpStatusCode httpStatusCode = response.getStatusCode();
         LogLevel logLevel;
@@ -170,22 +243,43 @@ public class HttpFilter implements WebFilter {
         } else {
             logLevel = LogLevel.ERROR;
         }
-        traceabilityService.createTraceability(Traceability.builder()
-                .transactionId(transactionId)
-                .status(traceabilityStatus != null ? traceabilityStatus : TraceabilityStatus.SUCCESS)
-                .origin(request.getPath().toString())
-                .method(request.getMethod())
-                .task(traceabilityTaskService.getTaskById("END_REQUEST").get())
-                .request(requestBody.toString())
-                .response(responseBody != null ? responseBody.toString() : "No response body")
+        TraceabilityStatus finalStatus = traceabilityStatus != null ? traceabilityStatus : TraceabilityStatus.SUCCESS;
+        accumulator.add(Traceability.builder()
+                .status(finalStatus)
+                .task(endRequestTask)
                 .durationMillis(duration)
                 .build());
 
-        logger.log("Salida Principal - " + request.getMethod() + " -> " + request.getPath().pathWithinApplication().value(),
-                taskService.getTaskById("HTTP_RESPONSE_FILTER").get(),
+        // A partir de aquí los registros de la solicitud ya no se acumulan
+        TraceabilityAccumulator.detach(exchange);
+        // Con la persistencia de errores degradada, la solicitud fallida no escribe su documento
+        boolean retained = decision.isSampled() || isFailure(exchange)
+                || duration > decision.getLatencyThresholdMillis();
+        if (retained && !ErrorDegradationManager.isPersistenceSuppressed(exchange)) {
+            SamplingService.markSampled(exchange);
+            traceabilityService.createTraceability(Traceability.builder()
+                    .transactionId(transactionId)
+                    .status(finalStatus)
+                    .origin(request.getPath().toString())
+                    .method(request.getMethod())
+                    .task(transactionTask)
+                    .request(requestCapture.toString())
+                    .response(responseBodyOf(responseCapture))
+                    .durationMillis(duration)
+                    .events(accumulator.getEvents())
+                    .droppedEvents(accumulator.getDroppedEvents())
+                    .build());
+        }
+
+        logger.log(() -> "Salida Principal - " + request.getMethod() + " -> " + request.getPath().pathWithinApplication().value(),
+                responseFilterTask,
                 logLevel,
-                responseBody != null ? responseBody.toString() : "No response body",
+                () -> responseBodyOf(responseCapture),
                 duration);
     }
 
+    private static String responseBodyOf(BodyCapture responseCapture) {
+        return responseCapture != null ? responseCapture.toString() : "No response body";
+    }
+
 }
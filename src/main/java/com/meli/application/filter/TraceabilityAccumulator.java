@@ -0,0 +1,126 @@
+package com.meli.application.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.server.ServerWebExchange;
+
+import com.meli.core.entity.Traceability;
+import com.meli.core.entity.TraceabilityEvent;
+
+/**
+ * Acumulador de eventos de trazabilidad asociado a una transacción HTTP.
+ *
+ * <p>
+ * {@link HttpFilter} lo asocia al exchange al iniciar la solicitud; el inicio, el
+ * fin, los errores registrados por el manejador de excepciones y los eventos
+ * propios de la aplicación registrados con {@code TraceabilityService} se
+ * acumulan aquí con su instante relativo al inicio de la transacción. Al
+ * finalizar la solicitud el filtro escribe un único documento con todos los
+ * eventos, o lo descarta en el modo de retención si la solicitud fue exitosa y
+ * rápida.
+ * </p>
+ *
+ * <p>
+ * El número de eventos está acotado para limitar la memoria por solicitud; los
+ * eventos que exceden el límite se descartan y se cuentan, de modo que el
+ * documento consolidado indique que la transacción quedó truncada.
+ * </p>
+ */
+public class TraceabilityAccumulator {
+
+    private static final String ACCUMULATOR_ATTRIBUTE = "TRACEABILITY_ACCUMULATOR";
+
+    private final long startNanos = System.nanoTime();
+    private final int maxEvents;
+    private final List<TraceabilityEvent> events = new ArrayList<>(4);
+    private int droppedEvents;
+
+    private TraceabilityAccumulator(int maxEvents) {
+        this.maxEvents = maxEvents;
+    }
+
+    /**
+     * Crea un acumulador y lo asocia al exchange de la solicitud.
+     *
+     * @param exchange  El exchange de la solicitud.
+     * @param maxEvents El máximo de eventos retenidos.
+     * @return El acumulador asociado.
+     */
+    public static TraceabilityAccumulator attach(ServerWebExchange exchange, int maxEvents) {
+        TraceabilityAccumulator accumulator = new TraceabilityAccumulator(maxEvents);
+        exchange.getAttributes().put(ACCUMULATOR_ATTRIBUTE, accumulator);
+        return accumulator;
+    }
+
+    /**
+     * Obtiene el acumulador asociado a una solicitud.
+     *
+     * @param exchange El exchange de la solicitud, puede ser nulo.
+     * @return El acumulador, o {@code null} si la solicitud no tiene transacción en curso.
+     */
+    public static TraceabilityAccumulator get(ServerWebExchange exchange) {
+        return exchange != null ? exchange.getAttribute(ACCUMULATOR_ATTRIBUTE) : null;
+    }
+
+    /**
+     * Desasocia el acumulador del exchange; los registros posteriores de la
+     * solicitud ya no se acumulan.
+     *
+     * @param exchange El exchange de la solicitud.
+     */
+    public static void detach(ServerWebExchange exchange) {
+        exchange.getAttributes().remove(ACCUMULATOR_ATTRIBUTE);
+    }
+
+    /**
+     * Agrega un registro de trazabilidad como evento de la transacción.
+     *
+     * @param traceability El registro a agregar.
+     */
+    public void add(Traceability traceability) {
+        TraceabilityEvent event = TraceabilityEvent.builder()
+                .task(traceability.getTask())
+                .status(traceability.getStatus())
+                .offsetMillis(elapsedMillis())
+                .request(traceability.getRequest())
+                .response(traceability.getResponse())
+                .durationMillis(traceability.getDurationMillis())
+                .build();
+        synchronized (this) {
+            if (events.size() < maxEvents) {
+                events.add(event);
+            } else {
+                droppedEvents++;
+            }
+        }
+    }
+
+    /**
+     * Obtiene los milisegundos transcurridos desde el inicio de la transacción.
+     *
+     * @return El tiempo transcurrido en milisegundos.
+     */
+    public long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Obtiene una copia de los eventos acumulados.
+     *
+     * @return Los eventos de la transacción en orden de registro.
+     */
+    public synchronized List<TraceabilityEvent> getEvents() {
+        return List.copyOf(events);
+    }
+
+    /**
+     * Obtiene la cantidad de eventos descartados por superar el límite.
+     *
+     * @return Los eventos descartados, o {@code null} si no se descartó ninguno.
+     */
+    public synchronized Integer getDroppedEvents() {
+        return droppedEvents > 0 ? droppedEvents : null;
+    }
+}
@@ -23,4 +23,11 @@ public interface MessageService {
      * @return El mensaje mapeado.
      */
     String mapMessage(String messageMapping);
+
+    /**
+     * Obtiene la versión de la caché de mensajes, que cambia cada vez que se recarga.
+     *
+     * @return La versión actual de la caché de mensajes.
+     */
+    long getMessageVersion();
 }
@@ -8,7 +8,8 @@ import com.meli.core.entity.Traceability;
 public interface TraceabilityService {
 
     /**
-     * Crea un registro de trazabilidad de manera reactiva.
+     * Crea un registro de trazabilidad de manera reactiva. Si existe una solicitud HTTP
+     * en curso, el registro se agrega como evento a su documento consolidado.
      *
      * @param traceability El objeto Traceability que contiene la información de la trazabilidad.
      */
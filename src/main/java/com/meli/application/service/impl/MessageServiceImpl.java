@@ -57,11 +57,13 @@ public class MessageServiceImpl implements MessageService {
     @Override
     public String mapMessage(String messageMapping) {
         return this.messageUseCase
-                .getMessageList()
-                .stream()
-                .filter(message -> message.getMessageId().equals(messageMapping.toString()))
-                .findFirst()
+                .getCachedMessage(messageMapping)
                 .map(Message::getMessageContent)
-                .orElse(messageMapping.toString());
+                .orElse(messageMapping);
+    }
+
+    @Override
+    public long getMessageVersion() {
+        return this.messageUseCase.getVersion();
     }
 }
@@ -1,8 +1,12 @@
 package com.meli.application.service.impl;
 
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebExchange;
 
+import com.meli.application.filter.TraceabilityAccumulator;
 import com.meli.application.service.TraceabilityService;
+import com.meli.common.utils.context.TransactionContext;
+import com.meli.common.utils.sampling.SamplingService;
 import com.meli.core.TraceabilityUseCase;
 import com.meli.core.entity.Traceability;
 
@@ -36,11 +40,21 @@ public class TraceabilityServiceImpl implements TraceabilityService {
      * registro de trazabilidad en el sistema. Es útil para mantener un seguimiento
      * de las actividades o eventos importantes que ocurren durante la ejecución de la aplicación.</p>
      *
+     * <p>Dentro de una solicitud HTTP el registro no se persiste por separado: se agrega como
+     * evento al {@link TraceabilityAccumulator} de la solicitud, que se escribe como un único
+     * documento al finalizar. Las solicitudes descartadas por el muestreo no registran eventos.</p>
+     *
      * @param traceability El objeto {@link Traceability} que contiene la información a registrar.
      * @return Un Mono<Void> que indica la finalización de la operación.
      */
     @Override
     public void createTraceability(Traceability traceability) {
-        this.traceabilityUseCase.createTraceability(traceability);
+        ServerWebExchange exchange = TransactionContext.currentExchange();
+        TraceabilityAccumulator accumulator = TraceabilityAccumulator.get(exchange);
+        if (accumulator != null) {
+            accumulator.add(traceability);
+        } else if (SamplingService.isSampled(exchange)) {
+            this.traceabilityUseCase.createTraceability(traceability);
+        }
     }
 }
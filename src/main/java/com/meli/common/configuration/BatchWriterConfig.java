@@ -0,0 +1,78 @@
+package com.meli.common.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Configuración de la escritura diferida por lotes de trazabilidad y errores de servicio.
+ *
+ * <p>Los registros se encolan en memoria y se escriben en MongoDB en lotes no ordenados
+ * cuando se alcanza {@code batch-size} o transcurre {@code flush-interval-millis}. Las
+ * propiedades usan el prefijo {@code app.batch-writer}.</p>
+ *
+ * <p>Con {@code spill-enabled=true}, los registros que no caben en la cola o cuyo lote no
+ * se escribe dentro de {@code write-timeout-millis} se guardan en un diario local mapeado
+ * en memoria y se reproducen en segundo plano cuando MongoDB se recupera.</p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.batch-writer")
+public class BatchWriterConfig {
+
+    /**
+     * Máximo de registros pendientes en cola; los que exceden la capacidad se descartan.
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * Máximo de registros por lote.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Intervalo máximo, en milisegundos, entre escrituras de lotes parciales.
+     */
+    private long flushIntervalMillis = 200;
+
+    /**
+     * Máximo de lotes escribiéndose en paralelo por tipo de registro.
+     */
+    private int maxInFlightBatches = 2;
+
+    /**
+     * Tiempo máximo, en milisegundos, para escribir un lote antes de considerarlo fallido.
+     */
+    private long writeTimeoutMillis = 2000;
+
+    /**
+     * Activa el diario local para los registros que no pudieron escribirse.
+     */
+    private boolean spillEnabled = false;
+
+    /**
+     * Directorio de los segmentos del diario local.
+     */
+    private String spillDirectory = Path.of(System.getProperty("java.io.tmpdir"), "lib-base-journal").toString();
+
+    /**
+     * Tamaño, en bytes, de cada segmento preasignado del diario local.
+     */
+    private int spillSegmentBytes = 64 * 1024 * 1024;
+
+    /**
+     * Intervalo, en milisegundos, entre intentos de reproducción del diario local.
+     */
+    private long replayIntervalMillis = 5000;
+
+    /**
+     * Intervalo, en milisegundos, de la línea de estado de cada escritor con la profundidad de la
+     * cola, la latencia de escritura y los registros del período; 0 la deshabilita.
+     */
+    private long statusIntervalMillis = 60000;
+}
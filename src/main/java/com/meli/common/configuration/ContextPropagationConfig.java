@@ -0,0 +1,34 @@
+package com.meli.common.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+import com.meli.common.utils.context.TransactionContextPropagation;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Configuración que registra en Reactor la propagación automática del contexto de transacción
+ * hacia los hilos que procesan cada solicitud.
+ *
+ * <p>Se habilita con {@code app.context-propagation.enabled=true}. El hook es global: decora los
+ * operadores de toda la aplicación anfitriona que pueden cambiar de hilo, con un costo al ensamblar
+ * y en cada señal. Sin él, el contexto está disponible en el hilo que suscribe la solicitud, en las
+ * etapas que lo restablecen con {@link com.meli.common.utils.context.TransactionContext#run(Runnable)}
+ * y mediante {@link com.meli.common.utils.context.TransactionContext#deferred()}.</p>
+ */
+@Configuration
+@ConditionalOnProperty(value = "app.context-propagation.enabled", havingValue = "true")
+public class ContextPropagationConfig {
+
+    @PostConstruct
+    public void init() {
+        TransactionContextPropagation.install();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        TransactionContextPropagation.uninstall();
+    }
+}
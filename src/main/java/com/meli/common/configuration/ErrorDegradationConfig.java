@@ -0,0 +1,66 @@
+package com.meli.common.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de la degradación adaptativa de la persistencia de errores.
+ *
+ * <p>Se define con el prefijo {@code app.error-degradation}. Cuando la tasa de errores de un origen
+ * supera {@code degrade-errors-per-second} en la ventana deslizante, el manejador de excepciones solo
+ * persiste uno de cada {@code sample-rate} errores de ese origen; vuelve a persistirlos todos cuando
+ * la tasa baja de {@code recover-errors-per-second}. La diferencia entre ambos umbrales evita que el
+ * estado oscile.</p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.error-degradation")
+public class ErrorDegradationConfig {
+
+    private boolean enabled = true;
+
+    /**
+     * Habilita el endpoint de diagnóstico de la degradación. No tiene autenticación propia, por lo
+     * que solo debe habilitarse detrás de la seguridad de la aplicación anfitriona.
+     */
+    private boolean endpointEnabled = false;
+
+    /**
+     * Duración, en milisegundos, de la ventana deslizante.
+     */
+    private long windowMillis = 10000;
+
+    /**
+     * Cantidad de intervalos de la ventana; también fija cada cuánto se reevalúa el estado.
+     */
+    private int windowBuckets = 10;
+
+    /**
+     * Errores por segundo de un origen a partir de los cuales se degrada la persistencia.
+     */
+    private double degradeErrorsPerSecond = 50;
+
+    /**
+     * Errores por segundo de un origen por debajo de los cuales se vuelve a la persistencia completa.
+     */
+    private double recoverErrorsPerSecond = 10;
+
+    /**
+     * En estado degradado se persiste uno de cada N errores.
+     */
+    private int sampleRate = 100;
+
+    /**
+     * Intervalo, en milisegundos, de las líneas de resumen de los errores no persistidos.
+     */
+    private long summaryIntervalMillis = 10000;
+
+    /**
+     * Máximo de orígenes con ventana propia; los siguientes comparten una ventana común.
+     */
+    private int maxOrigins = 1000;
+}
@@ -0,0 +1,44 @@
+package com.meli.common.configuration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meli.application.service.MessageService;
+import com.meli.common.exception.handler.ErrorResponseEncoder;
+import com.meli.common.exception.handler.ErrorResponseTemplates;
+
+/**
+ * Configuración que registra el {@link ErrorResponseEncoder} antes de los codecs por defecto, para
+ * que las respuestas de error del {@link com.meli.common.exception.handler.ExceptionAdvisor} se
+ * escriban desde plantillas. Las {@link ErrorResponseTemplates} son un único bean, compartido por
+ * el encoder y el advisor.
+ */
+@Configuration
+public class ErrorResponseCodecConfiguration implements WebFluxConfigurer {
+
+    private static final int MAX_RESPONSE_TEMPLATES = 256;
+
+    private final MessageService messageService;
+    private final ObjectProvider<ObjectMapper> objectMapper;
+
+    public ErrorResponseCodecConfiguration(MessageService messageService, ObjectProvider<ObjectMapper> objectMapper) {
+        this.messageService = messageService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Bean
+    public ErrorResponseTemplates errorResponseTemplates() {
+        return new ErrorResponseTemplates(MAX_RESPONSE_TEMPLATES);
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.customCodecs().register(new ErrorResponseEncoder(errorResponseTemplates(), messageService,
+                objectMapper.getIfAvailable(() -> Jackson2ObjectMapperBuilder.json().build())));
+    }
+}
@@ -0,0 +1,41 @@
+package com.meli.common.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración del registro en memoria de los últimos registros de trazabilidad y errores de servicio.
+ *
+ * <p>Se define con el prefijo {@code app.flight-recorder}. El registro se alimenta en paralelo al
+ * destino configurado en {@link TraceabilitySinkConfig}, por lo que combinado con
+ * {@code app.traceability-sink.type=NOOP} permite prescindir de la trazabilidad en MongoDB y
+ * consultar el tráfico reciente desde el endpoint de diagnóstico.</p>
+ *
+ * <p>Está deshabilitado por defecto: el endpoint expone cuerpos de solicitudes y respuestas, trazas y
+ * errores de servicio sin autenticación propia, por lo que solo debe habilitarse detrás de la
+ * seguridad de la aplicación anfitriona.</p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.flight-recorder")
+public class FlightRecorderConfig {
+
+    /**
+     * Habilita el registro en memoria y su endpoint de diagnóstico.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Cantidad de registros conservados por tipo; se redondea a la siguiente potencia de dos.
+     */
+    private int capacity = 1024;
+
+    /**
+     * Máximo de registros devueltos por consulta.
+     */
+    private int maxResults = 200;
+}
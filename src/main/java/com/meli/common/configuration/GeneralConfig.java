@@ -5,6 +5,8 @@ import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
+import com.meli.common.utils.log.LogLevels;
+
 import jakarta.annotation.PostConstruct;
 
 /**
@@ -18,9 +20,6 @@ import jakarta.annotation.PostConstruct;
 @Configuration
 public class GeneralConfig {
 
-    @Getter
-    private static String logLevel;
-
     @Getter
     private static String appId;
 
@@ -48,9 +47,19 @@ public class GeneralConfig {
     @Value("${app.version}")
     private String appVersionValue;
 
+    /**
+     * Obtiene el nivel de log vigente, incluidos los cambios hechos en tiempo de
+     * ejecución (ver {@link LogLevels}).
+     *
+     * @return El nombre del nivel de log.
+     */
+    public static String getLogLevel() {
+        return LogLevels.getLevel().name();
+    }
+
     @PostConstruct
     private void init() {
-        GeneralConfig.logLevel = this.logLevelValue;
+        LogLevels.setConfiguredLevel(this.logLevelValue);
         GeneralConfig.appId = this.appIdValue;
         GeneralConfig.appName = this.appNameValue;
         GeneralConfig.appDescription = this.appDescriptionValue;
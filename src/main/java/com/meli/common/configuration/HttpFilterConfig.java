@@ -0,0 +1,105 @@
+package com.meli.common.configuration;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+
+import com.meli.common.utils.enums.BodyCapturePolicy;
+
+import jakarta.annotation.PostConstruct;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuración del filtro HTTP de la aplicación.
+ *
+ * <p>Permite ajustar, mediante propiedades con el prefijo {@code app.http-filter},
+ * la cantidad de información del cuerpo de solicitudes y respuestas que se captura
+ * para trazabilidad y logs.</p>
+ *
+ * <p>La tabla {@code media-type-policies} asigna una {@link BodyCapturePolicy} por tipo
+ * de contenido; admite comodines como {@code multipart/*}. Al ser claves con caracteres
+ * especiales deben declararse entre corchetes, por ejemplo
+ * {@code app.http-filter.media-type-policies.[text/event-stream]=NONE}.</p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.http-filter")
+public class HttpFilterConfig {
+
+    /**
+     * Máximo de bytes del cuerpo que se conservan por solicitud y por respuesta.
+     * El resto del cuerpo fluye sin copiarse y se marca como truncado.
+     */
+    private int maxBodyBytes = 8192;
+
+    /**
+     * Cantidad de fragmentos conservados con la política {@link BodyCapturePolicy#SAMPLE}.
+     */
+    private int sampleChunks = 4;
+
+    /**
+     * Máximo de eventos de trazabilidad acumulados por solicitud en su documento consolidado.
+     */
+    private int maxTraceabilityEvents = 32;
+
+    /**
+     * Política aplicada a los tipos de contenido que no figuran en la tabla.
+     */
+    private BodyCapturePolicy defaultBodyPolicy = BodyCapturePolicy.CAPTURE;
+
+    /**
+     * Políticas de captura por tipo de contenido.
+     */
+    private Map<String, BodyCapturePolicy> mediaTypePolicies = defaultMediaTypePolicies();
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private List<MediaTypePolicy> compiledPolicies = List.of();
+
+    @PostConstruct
+    public void init() {
+        List<MediaTypePolicy> policies = new ArrayList<>(mediaTypePolicies.size());
+        mediaTypePolicies.forEach((type, policy) -> policies.add(new MediaTypePolicy(MediaType.parseMediaType(type), policy)));
+        // Los tipos concretos tienen prioridad sobre los comodines
+        policies.sort((a, b) -> Boolean.compare(a.mediaType().isWildcardSubtype(), b.mediaType().isWildcardSubtype()));
+        this.compiledPolicies = List.copyOf(policies);
+    }
+
+    /**
+     * Obtiene la política de captura para un tipo de contenido.
+     *
+     * @param contentType El tipo de contenido del cuerpo, puede ser nulo.
+     * @return La política configurada, o {@code defaultBodyPolicy} si no hay coincidencia.
+     */
+    public BodyCapturePolicy policyFor(MediaType contentType) {
+        if (contentType != null) {
+            for (MediaTypePolicy entry : compiledPolicies) {
+                if (entry.mediaType().includes(contentType)) {
+                    return entry.policy();
+                }
+            }
+        }
+        return defaultBodyPolicy;
+    }
+
+    private static Map<String, BodyCapturePolicy> defaultMediaTypePolicies() {
+        Map<String, BodyCapturePolicy> policies = new LinkedHashMap<>();
+        policies.put(MediaType.TEXT_EVENT_STREAM_VALUE, BodyCapturePolicy.SAMPLE);
+        policies.put(MediaType.APPLICATION_NDJSON_VALUE, BodyCapturePolicy.SAMPLE);
+        policies.put(MediaType.APPLICATION_OCTET_STREAM_VALUE, BodyCapturePolicy.NONE);
+        policies.put("multipart/*", BodyCapturePolicy.NONE);
+        return policies;
+    }
+
+    private record MediaTypePolicy(MediaType mediaType, BodyCapturePolicy policy) {
+    }
+}
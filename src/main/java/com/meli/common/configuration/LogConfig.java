@@ -0,0 +1,214 @@
+package com.meli.common.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.meli.common.utils.enums.LogBufferMode;
+import com.meli.common.utils.enums.LogLevel;
+import com.meli.common.utils.enums.LogOverflowPolicy;
+import com.meli.common.utils.log.AsyncLogPipeline;
+import com.meli.common.utils.log.JsonLogEncoder;
+import com.meli.common.utils.log.MappedFileLogAppender;
+import com.meli.common.utils.log.TaskLogPolicy;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuración de la salida de {@link com.meli.common.utils.log.ServiceLogger}.
+ *
+ * <p>Se define con el prefijo {@code app.log}. Los límites acotan la serialización del objeto
+ * adjunto a cada línea de log, para que un objeto grande o profundo no produzca líneas enormes.</p>
+ *
+ * <p>Con {@code async-enabled} las líneas se escriben desde el {@link AsyncLogPipeline}; al
+ * llenarse su cola se aplica {@code overflow-policy}. Con {@code file.enabled} las líneas se escriben en
+ * segmentos de archivo mapeados en memoria, rotados por tamaño y por tiempo.</p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.log")
+public class LogConfig {
+
+    /**
+     * Profundidad máxima de mapas, colecciones y causas anidadas del objeto adjunto.
+     */
+    private int maxObjectDepth = 4;
+
+    /**
+     * Cantidad máxima de elementos serializados por mapa, colección o arreglo.
+     */
+    private int maxObjectItems = 50;
+
+    /**
+     * Longitud máxima de cada texto de la línea; los más largos se truncan.
+     */
+    private int maxStringLength = 8192;
+
+    /**
+     * Escribe los logs desde un hilo dedicado en lugar del hilo que atiende la solicitud.
+     */
+    private boolean asyncEnabled = true;
+
+    /**
+     * Capacidad de la cola asíncrona de logs; se redondea a una potencia de dos.
+     */
+    private int asyncCapacity = 8192;
+
+    /**
+     * Cantidad de eventos acumulados que despierta al escritor.
+     */
+    private int asyncBatchSize = 256;
+
+    /**
+     * Tiempo máximo, en milisegundos, que el escritor espera sin eventos.
+     */
+    private long asyncIdleMillis = 20;
+
+    /**
+     * Comportamiento cuando la cola asíncrona se llena.
+     */
+    private LogOverflowPolicy overflowPolicy = LogOverflowPolicy.DROP_LOWEST_LEVEL;
+
+    /**
+     * Espera máxima, en milisegundos, de la política {@code BLOCK} antes de descartar el evento.
+     */
+    private long blockTimeoutMillis = 100;
+
+    /**
+     * Con la política {@code SAMPLE}, se conserva uno de cada N eventos por encima del umbral.
+     */
+    private int sampleRate = 10;
+
+    /**
+     * Fracción de ocupación de la cola a partir de la cual se descartan o muestrean los eventos de
+     * menor nivel.
+     */
+    private double highWaterMark = 0.75;
+
+    /**
+     * Limita las líneas de excepciones repetidas (misma tarea, clase de excepción y origen).
+     */
+    private boolean rateLimitEnabled = true;
+
+    /**
+     * Líneas completas por segundo permitidas para cada combinación, una vez agotada la ráfaga.
+     */
+    private double rateLimitPerSecond = 1.0;
+
+    /**
+     * Cantidad de líneas completas que se permiten seguidas antes de empezar a suprimir.
+     */
+    private int rateLimitBurst = 5;
+
+    /**
+     * Intervalo, en milisegundos, de las líneas de resumen con la cantidad de líneas suprimidas.
+     */
+    private long rateLimitSummaryIntervalMillis = 10000;
+
+    /**
+     * Máximo de combinaciones con contador propio; las siguientes comparten contador sin distinguir
+     * el origen, para acotar la memoria cuando el origen incluye identificadores.
+     */
+    private int rateLimitMaxKeys = 1000;
+
+    /**
+     * Agrupación de los logs de cada solicitud HTTP en un único registro.
+     */
+    private LogBufferMode requestBufferMode = LogBufferMode.OFF;
+
+    /**
+     * Máximo de líneas agrupadas por solicitud; las siguientes se descartan, salvo los errores.
+     */
+    private int requestBufferMaxEntries = 64;
+
+    /**
+     * Escritura de los logs en segmentos de archivo mapeados en memoria en lugar de SLF4J.
+     */
+    private FileAppender file = new FileAppender();
+
+    /**
+     * Nivel y tasa de muestreo por identificador de tarea, por ejemplo
+     * {@code app.log.tasks.HTTP_REQUEST_FILTER.sample-rate=0.01}.
+     */
+    private Map<String, TaskLog> tasks = new HashMap<>();
+
+    @PostConstruct
+    public void init() {
+        JsonLogEncoder.configure(maxObjectDepth, maxObjectItems, maxStringLength);
+        Map<String, TaskLogPolicy.TaskOverride> overrides = new HashMap<>();
+        tasks.forEach((taskId, taskLog) -> overrides.put(taskId,
+                new TaskLogPolicy.TaskOverride(taskLog.getLevel(), taskLog.getSampleRate())));
+        TaskLogPolicy.setConfigOverrides(overrides);
+        if (file.isEnabled()) {
+            MappedFileLogAppender.start(file.getDirectory(), file.getPrefix(), file.getSegmentBytes(),
+                    file.getRotationIntervalMillis());
+        }
+        if (asyncEnabled) {
+            AsyncLogPipeline.start(asyncCapacity, asyncBatchSize, asyncIdleMillis, overflowPolicy,
+                    blockTimeoutMillis, sampleRate, highWaterMark);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        AsyncLogPipeline.stop(Duration.ofSeconds(5));
+        MappedFileLogAppender.stop();
+    }
+
+    /**
+     * Destino de archivo de los logs (ver {@link MappedFileLogAppender}).
+     */
+    @Getter
+    @Setter
+    public static class FileAppender {
+
+        private boolean enabled = false;
+
+        /**
+         * Directorio de los segmentos; los cerrados terminan en {@code .log}.
+         */
+        private String directory = Path.of(System.getProperty("java.io.tmpdir"), "lib-base-logs").toString();
+
+        /**
+         * Prefijo del nombre de los segmentos.
+         */
+        private String prefix = "service";
+
+        /**
+         * Tamaño preasignado de cada segmento; al llenarse se rota.
+         */
+        private long segmentBytes = 64L * 1024 * 1024;
+
+        /**
+         * Tiempo máximo, en milisegundos, que un segmento permanece abierto antes de rotarse.
+         */
+        private long rotationIntervalMillis = 3600000;
+    }
+
+    /**
+     * Excepción de log de una tarea.
+     */
+    @Getter
+    @Setter
+    public static class TaskLog {
+
+        /**
+         * Nivel mínimo de la tarea; si es nulo se usa el nivel global.
+         */
+        private LogLevel level;
+
+        /**
+         * Fracción de los mensajes que no son errores que se registran, entre 0 y 1.
+         */
+        private Double sampleRate;
+    }
+}
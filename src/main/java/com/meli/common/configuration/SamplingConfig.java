@@ -0,0 +1,88 @@
+package com.meli.common.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración del muestreo de trazabilidad y logs por ruta.
+ *
+ * <p>Las reglas se declaran con el prefijo {@code app.sampling.rules} y se evalúan en
+ * orden; la primera cuya ruta y método coincidan con la solicitud define la tasa de
+ * muestreo. Si ninguna coincide se aplica {@code app.sampling.default-rate}.</p>
+ *
+ * <pre>
+ * app.sampling.rules[0].pattern=/actuator/**
+ * app.sampling.rules[0].rate=0
+ * app.sampling.rules[1].pattern=/api/v1/payments/**
+ * app.sampling.rules[1].rate=1
+ * app.sampling.rules[2].pattern=/api/v1/products/**
+ * app.sampling.rules[2].methods=GET
+ * app.sampling.rules[2].rate=0.01
+ * </pre>
+ *
+ * <p>Con {@code app.sampling.tail-enabled=true} la trazabilidad de cada solicitud se
+ * retiene en memoria y solo se persiste si la solicitud fue muestreada,
+ * terminó con un estado distinto de 2xx o con trazabilidad FAILED/ERROR, o superó el
+ * umbral de latencia de su ruta.</p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.sampling")
+public class SamplingConfig {
+
+    /**
+     * Tasa de muestreo, entre 0 y 1, para las rutas sin regla.
+     */
+    private double defaultRate = 1.0;
+
+    /**
+     * Reglas de muestreo por patrón de ruta y método HTTP.
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * Activa el modo de retención que conserva solo errores y solicitudes lentas.
+     */
+    private boolean tailEnabled = false;
+
+    /**
+     * Umbral de latencia, en milisegundos, para las rutas sin umbral propio.
+     */
+    private long defaultLatencyThresholdMillis = 1000;
+
+    /**
+     * Regla de muestreo para un patrón de ruta.
+     */
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /**
+         * Patrón de ruta en la sintaxis de {@code PathPattern}, por ejemplo {@code /api/v1/**}.
+         */
+        private String pattern;
+
+        /**
+         * Métodos HTTP a los que aplica la regla; vacío aplica a todos.
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * Tasa de muestreo, entre 0 y 1.
+         */
+        private double rate = 1.0;
+
+        /**
+         * Umbral de latencia, en milisegundos, a partir del cual se conserva la
+         * trazabilidad en el modo de retención; nulo usa el umbral por defecto.
+         */
+        private Long latencyThresholdMillis;
+    }
+}
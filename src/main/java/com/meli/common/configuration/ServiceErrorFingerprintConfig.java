@@ -0,0 +1,53 @@
+package com.meli.common.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.meli.common.utils.fingerprint.ErrorFingerprint;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Configuración de la agrupación de errores de servicio por huella.
+ *
+ * <p>Se define con el prefijo {@code app.service-error-fingerprint}. Con la agrupación activa, la
+ * traza completa de cada error se guarda una vez por huella y los registros de error de cada
+ * solicitud solo la referencian.</p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.service-error-fingerprint")
+public class ServiceErrorFingerprintConfig {
+
+    private boolean enabled = true;
+
+    /**
+     * Cantidad de marcos de la pila que forman parte de la huella.
+     */
+    private int frames = 5;
+
+    /**
+     * Máximo de huellas conocidas en memoria; los errores de huellas nuevas por encima del límite
+     * guardan su traza completa en su propio registro.
+     */
+    private int maxFingerprints = 1000;
+
+    /**
+     * Intervalo, en milisegundos, de escritura de los contadores acumulados por huella.
+     */
+    private long flushIntervalMillis = 5000;
+
+    /**
+     * Tiempo, en milisegundos, sin ocurrencias tras el cual una huella deja de estar en memoria.
+     */
+    private long idleEvictionMillis = 600000;
+
+    @PostConstruct
+    public void init() {
+        ErrorFingerprint.configure(frames);
+    }
+}
@@ -0,0 +1,43 @@
+package com.meli.common.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de las métricas de latencia por tarea.
+ *
+ * <p>Se define con el prefijo {@code app.task-metrics}. Cada tarea instrumentada tiene un histograma
+ * de memoria fija; el estado acumulado se consulta en el endpoint de diagnóstico y cada
+ * {@code summary-interval-millis} se registra una línea de resumen por tarea con las ejecuciones del
+ * período.</p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.task-metrics")
+public class TaskMetricsConfig {
+
+    /**
+     * Habilita el registro de los histogramas y las líneas de resumen.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Habilita el endpoint de diagnóstico de las métricas. No tiene autenticación propia, por lo que
+     * solo debe habilitarse detrás de la seguridad de la aplicación anfitriona.
+     */
+    private boolean endpointEnabled = false;
+
+    /**
+     * Máximo de tareas con histograma propio; las siguientes comparten un histograma común.
+     */
+    private int maxTasks = 256;
+
+    /**
+     * Intervalo, en milisegundos, de las líneas de resumen; 0 las deshabilita.
+     */
+    private long summaryIntervalMillis = 60000;
+}
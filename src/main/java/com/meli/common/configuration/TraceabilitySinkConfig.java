@@ -0,0 +1,83 @@
+package com.meli.common.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.meli.common.utils.enums.TraceabilitySinkType;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración del destino de los registros de trazabilidad y errores de servicio.
+ *
+ * <p>Se define con el prefijo {@code app.traceability-sink}. El destino {@code MONGO}
+ * usa la configuración de escritura por lotes de {@link BatchWriterConfig}; el destino
+ * {@code FILE} tiene su propia cola, lote e intervalo de escritura en
+ * {@code app.traceability-sink.file}. Con {@code FANOUT} cada registro se entrega a
+ * todos los destinos de {@code targets}.</p>
+ *
+ * <pre>
+ * app.traceability-sink.type=FANOUT
+ * app.traceability-sink.targets=MONGO,FILE
+ * app.traceability-sink.file.directory=/var/log/traceability
+ * </pre>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.traceability-sink")
+public class TraceabilitySinkConfig {
+
+    /**
+     * Destino de los registros.
+     */
+    private TraceabilitySinkType type = TraceabilitySinkType.MONGO;
+
+    /**
+     * Destinos que reciben los registros cuando el tipo es {@code FANOUT}.
+     */
+    private List<TraceabilitySinkType> targets = new ArrayList<>(List.of(TraceabilitySinkType.MONGO));
+
+    /**
+     * Configuración del destino de archivos NDJSON.
+     */
+    private FileSink file = new FileSink();
+
+    /**
+     * Configuración del destino de archivos NDJSON.
+     */
+    @Getter
+    @Setter
+    public static class FileSink {
+
+        /**
+         * Directorio donde se crean los archivos.
+         */
+        private String directory = Path.of(System.getProperty("java.io.tmpdir"), "lib-base-traceability").toString();
+
+        /**
+         * Tamaño, en bytes, a partir del cual se rota el archivo en uso.
+         */
+        private long maxFileBytes = 100L * 1024 * 1024;
+
+        /**
+         * Máximo de registros pendientes en cola; los que exceden la capacidad se descartan.
+         */
+        private int queueCapacity = 10000;
+
+        /**
+         * Máximo de registros escritos por lote.
+         */
+        private int batchSize = 500;
+
+        /**
+         * Intervalo máximo, en milisegundos, entre escrituras de lotes parciales.
+         */
+        private long flushIntervalMillis = 1000;
+    }
+}
@@ -0,0 +1,61 @@
+package com.meli.common.configuration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import com.meli.common.utils.enums.TraceabilitySinkType;
+import com.meli.common.utils.tasks.TaskService;
+import com.meli.provider.sink.FanOutTraceabilitySink;
+import com.meli.provider.sink.FileTraceabilitySink;
+import com.meli.provider.sink.FlightRecorder;
+import com.meli.provider.sink.MongoTraceabilitySink;
+import com.meli.provider.sink.NoopTraceabilitySink;
+import com.meli.provider.sink.TraceabilitySink;
+
+/**
+ * Configuración que crea el {@link TraceabilitySink} seleccionado con {@code app.traceability-sink.type},
+ * acompañado del {@link FlightRecorder} cuando {@code app.flight-recorder.enabled} está activo.
+ */
+@Configuration
+public class TraceabilitySinkConfiguration {
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    public TraceabilitySink traceabilitySink(TraceabilitySinkConfig sinkConfig, ReactiveMongoTemplate reactiveMongoTemplate,
+            TaskService taskService, BatchWriterConfig batchWriterConfig,
+            ObjectProvider<FlightRecorder> flightRecorder) {
+        List<TraceabilitySink> sinks = new ArrayList<>();
+        if (sinkConfig.getType() != TraceabilitySinkType.FANOUT) {
+            sinks.add(create(sinkConfig.getType(), sinkConfig, reactiveMongoTemplate, taskService, batchWriterConfig));
+        } else {
+            for (TraceabilitySinkType target : new LinkedHashSet<>(sinkConfig.getTargets())) {
+                if (target == TraceabilitySinkType.FANOUT) {
+                    throw new IllegalStateException("app.traceability-sink.targets no admite FANOUT");
+                }
+                sinks.add(create(target, sinkConfig, reactiveMongoTemplate, taskService, batchWriterConfig));
+            }
+        }
+        // El registro en memoria solo existe cuando está habilitado
+        flightRecorder.ifAvailable(sinks::add);
+        return sinks.size() == 1 ? sinks.get(0) : new FanOutTraceabilitySink(sinks);
+    }
+
+    private TraceabilitySink create(TraceabilitySinkType type, TraceabilitySinkConfig sinkConfig,
+            ReactiveMongoTemplate reactiveMongoTemplate, TaskService taskService, BatchWriterConfig batchWriterConfig) {
+        switch (type) {
+            case FILE:
+                return new FileTraceabilitySink(reactiveMongoTemplate.getConverter(), taskService, sinkConfig.getFile());
+            case NOOP:
+                return new NoopTraceabilitySink();
+            default:
+                return new MongoTraceabilitySink(reactiveMongoTemplate, taskService, batchWriterConfig);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.meli.common.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de los identificadores de transacción.
+ *
+ * <p>Se define con el prefijo {@code app.transaction-id}. Si la solicitud trae un identificador
+ * válido en {@code request-header}, o un {@code traceparent} de W3C Trace Context, se reutiliza;
+ * en caso contrario se genera uno nuevo ordenado por tiempo. El identificador se devuelve en
+ * {@code response-header} y se propaga a las llamadas salientes de WebClient.</p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.transaction-id")
+public class TransactionIdConfig {
+
+    /**
+     * Cabecera de la que se toma el identificador entrante y que se envía en las llamadas salientes.
+     */
+    private String requestHeader = "X-Request-Id";
+
+    /**
+     * Cabecera en la que se devuelve el identificador en la respuesta; vacía para no devolverlo.
+     */
+    private String responseHeader = "X-Request-Id";
+
+    /**
+     * Reutiliza el identificador de la solicitud entrante en lugar de generar uno nuevo.
+     */
+    private boolean acceptIncoming = true;
+
+    /**
+     * Usa el trace-id de la cabecera {@code traceparent} cuando no llega {@code request-header}.
+     */
+    private boolean acceptTraceparent = true;
+
+    /**
+     * Longitud máxima de un identificador entrante; los más largos se descartan.
+     */
+    private int maxLength = 64;
+}
@@ -0,0 +1,61 @@
+package com.meli.common.exception;
+
+import java.io.Serial;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpStatus;
+
+import com.meli.common.utils.tasks.Task;
+
+/**
+ * Excepción de servicio liviana para errores de negocio esperados, como un recurso inexistente.
+ *
+ * <p>
+ * No captura la traza de la pila ni admite excepciones suprimidas, por lo que crearla cuesta lo
+ * mismo que cualquier otro objeto y una misma instancia puede compartirse entre solicitudes e
+ * hilos. {@link #constant(String, HttpStatus, Task, Class)} devuelve una instancia reutilizable por
+ * tarea, estado, mensaje y clase de excepción, pensada para guardarse en un campo y entregarse con
+ * {@code Mono.error(...)} sin construir nada por solicitud.
+ * </p>
+ *
+ * <p>
+ * El manejador de excepciones la trata como cualquier {@link ServiceException}, pero no calcula su
+ * huella ni guarda una traza en el registro de error.
+ * </p>
+ */
+public class BusinessException extends ServiceException {
+
+    @Serial
+    private static final long serialVersionUID = -722027836331510801L;
+
+    private static final Map<String, BusinessException> CONSTANTS = new ConcurrentHashMap<>();
+
+    /**
+     * Construye una excepción de negocio sin traza de la pila.
+     *
+     * @param message        El mensaje detallado de la excepción.
+     * @param code           El código de estado HTTP asociado con la excepción.
+     * @param task           La tarea específica durante la cual ocurrió la excepción.
+     * @param exceptionClass La clase de excepción que representa el error.
+     */
+    public BusinessException(String message, HttpStatus code, Task task, Class<?> exceptionClass) {
+        super(message, code, null, task, exceptionClass, null, false);
+    }
+
+    /**
+     * Obtiene la instancia compartida para una tarea, un estado, un mensaje y una clase de
+     * excepción, creándola la primera vez.
+     *
+     * @param message        El mensaje detallado de la excepción.
+     * @param code           El código de estado HTTP asociado con la excepción.
+     * @param task           La tarea específica durante la cual ocurre la excepción.
+     * @param exceptionClass La clase de excepción que representa el error.
+     * @return La instancia compartida.
+     */
+    public static BusinessException constant(String message, HttpStatus code, Task task, Class<?> exceptionClass) {
+        String key = (task != null ? task.getId() : "") + '|' + code.value() + '|'
+                + (exceptionClass != null ? exceptionClass.getName() : "") + '|' + message;
+        return CONSTANTS.computeIfAbsent(key, k -> new BusinessException(message, code, task, exceptionClass));
+    }
+}
@@ -1,5 +1,7 @@
 package com.meli.common.exception;
 
+import java.io.Serial;
+
 import org.springframework.http.HttpStatus;
 
 import com.meli.common.utils.tasks.Task;
@@ -26,15 +28,24 @@ import lombok.Getter;
  * el error y la clase de excepción que lo originó.
  * </p>
  *
+ * <p>
+ * Para errores de negocio esperados existe {@link BusinessException}, que no
+ * captura la traza de la pila.
+ * </p>
+ *
  * @see RuntimeException
  */
 @Getter
 public class ServiceException extends RuntimeException {
 
+    @Serial
+    private static final long serialVersionUID = 3782444137922310058L;
+
     private final Class<?> exceptionClass;
     private final HttpStatus httpStatus;
     private final transient Task task;
     private final transient Object documents;
+    private final boolean stackTraceEnabled;
 
     /**
      * Construye una nueva excepción de servicio con el mensaje de error, una causa
@@ -49,10 +60,29 @@ public class ServiceException extends RuntimeException {
      * @param exceptionClass La clase de excepción que originó el error.
      */
     public ServiceException(String message, HttpStatus code, Throwable cause, Task task, Class<?> exceptionClass, Object documents) {
-        super(message, cause);
+        this(message, code, cause, task, exceptionClass, documents, true);
+    }
+
+    /**
+     * Construye una excepción de servicio indicando si captura la traza de la pila.
+     * Sin traza tampoco admite excepciones suprimidas.
+     *
+     * @param message           El mensaje detallado de la excepción.
+     * @param code              El código de estado HTTP asociado con la excepción.
+     * @param cause             La causa de la excepción.
+     * @param task              La tarea específica durante la cual ocurrió la
+     *                          excepción.
+     * @param exceptionClass    La clase de excepción que originó el error.
+     * @param documents         Los documentos asociados al error, si los hay.
+     * @param stackTraceEnabled Indica si se captura la traza de la pila.
+     */
+    protected ServiceException(String message, HttpStatus code, Throwable cause, Task task, Class<?> exceptionClass,
+            Object documents, boolean stackTraceEnabled) {
+        super(message, cause, stackTraceEnabled, stackTraceEnabled);
         this.httpStatus = code;
         this.exceptionClass = exceptionClass;
         this.task = task;
         this.documents = documents;
+        this.stackTraceEnabled = stackTraceEnabled;
     }
 }
@@ -0,0 +1,279 @@
+package com.meli.common.exception.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.meli.common.configuration.ErrorDegradationConfig;
+import com.meli.common.utils.enums.DegradationState;
+import com.meli.common.utils.enums.LogLevel;
+import com.meli.common.utils.log.ServiceLogger;
+import com.meli.common.utils.tasks.Task;
+import com.meli.common.utils.tasks.TaskService;
+
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Degradación adaptativa de la persistencia de errores según la tasa de errores de cada origen.
+ *
+ * <p>
+ * {@link ExceptionAdvisor} usa como origen el patrón de la ruta que atendió la solicitud, o la
+ * tarea si ninguna coincidió, para que las variables de la ruta no generen un origen por recurso.
+ * Cada origen tiene una ventana deslizante de contadores por intervalo, sin bloqueos. Cuando la
+ * tasa supera el umbral de degradación, el origen pasa a {@link DegradationState#DEGRADED} y
+ * {@link ExceptionAdvisor} solo persiste y registra una muestra de sus errores; el resto se cuenta
+ * y se informa en una línea de resumen periódica. Un scheduler reevalúa los orígenes en cada
+ * intervalo y los devuelve a {@link DegradationState#NORMAL} cuando la tasa baja del umbral de
+ * recuperación. Cada transición se registra y se contabiliza.
+ * </p>
+ *
+ * <p>
+ * Los contadores de la ventana toleran imprecisiones mínimas cuando varios hilos cambian de
+ * intervalo a la vez; la tasa solo se usa para decidir el estado.
+ * </p>
+ */
+@Component
+public class ErrorDegradationManager {
+
+    private static final String SUPPRESSED_ATTRIBUTE = "ERROR_PERSISTENCE_SUPPRESSED";
+    private static final String OVERFLOW_ORIGIN = "*";
+
+    private final ServiceLogger<ErrorDegradationManager> logger = new ServiceLogger<>(ErrorDegradationManager.class);
+    private final Task task;
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int windowBuckets;
+    private final long bucketMillis;
+    private final double degradeErrorsPerSecond;
+    private final double recoverErrorsPerSecond;
+    private final int sampleRate;
+    private final long summaryIntervalMillis;
+    private final int maxOrigins;
+    private final Map<String, OriginWindow> windows = new ConcurrentHashMap<>();
+    private final LongAdder transitions = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final Scheduler scheduler;
+    private final Disposable periodicEvaluation;
+
+    public ErrorDegradationManager(ErrorDegradationConfig config, TaskService taskService) {
+        this.task = taskService.getTask(ExceptionAdvisor.EXCEPTION_MANAGER);
+        this.enabled = config.isEnabled();
+        this.windowBuckets = Math.max(1, config.getWindowBuckets());
+        this.bucketMillis = Math.max(1, config.getWindowMillis() / windowBuckets);
+        this.windowMillis = bucketMillis * windowBuckets;
+        this.degradeErrorsPerSecond = config.getDegradeErrorsPerSecond();
+        this.recoverErrorsPerSecond = Math.min(config.getRecoverErrorsPerSecond(), degradeErrorsPerSecond);
+        this.sampleRate = Math.max(1, config.getSampleRate());
+        this.summaryIntervalMillis = config.getSummaryIntervalMillis();
+        this.maxOrigins = Math.max(1, config.getMaxOrigins());
+        if (enabled) {
+            this.scheduler = Schedulers.newSingle("error-degradation", true);
+            this.periodicEvaluation = scheduler.schedulePeriodically(this::evaluate, bucketMillis, bucketMillis,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+            this.periodicEvaluation = Disposables.disposed();
+        }
+    }
+
+    /**
+     * Registra un error de un origen e indica si debe persistirse y registrarse completo. Si no, la
+     * solicitud queda marcada para que tampoco se escriba su documento de trazabilidad.
+     *
+     * @param exchange El exchange de la solicitud fallida.
+     * @param origin   El origen de la solicitud, con cardinalidad acotada como el patrón de su ruta.
+     * @return {@code true} si el error debe persistirse.
+     */
+    public boolean shouldPersist(ServerWebExchange exchange, String origin) {
+        if (!enabled) {
+            return true;
+        }
+        OriginWindow window = window(origin);
+        long now = System.currentTimeMillis();
+        window.record(now);
+        if (window.state.get() == DegradationState.NORMAL) {
+            double rate = window.rate(now);
+            if (rate < degradeErrorsPerSecond) {
+                return true;
+            }
+            transition(window, DegradationState.NORMAL, DegradationState.DEGRADED, rate);
+        }
+        if (window.sampleCounter.incrementAndGet() % sampleRate == 0) {
+            return true;
+        }
+        window.skipped.increment();
+        skipped.increment();
+        exchange.getAttributes().put(SUPPRESSED_ATTRIBUTE, Boolean.TRUE);
+        return false;
+    }
+
+    /**
+     * Indica si la persistencia de la solicitud fue suprimida por la degradación.
+     *
+     * @param exchange El exchange de la solicitud.
+     * @return {@code true} si no deben escribirse registros de la solicitud.
+     */
+    public static boolean isPersistenceSuppressed(ServerWebExchange exchange) {
+        return Boolean.TRUE.equals(exchange.getAttribute(SUPPRESSED_ATTRIBUTE));
+    }
+
+    /**
+     * Obtiene el estado de los orígenes con errores recientes.
+     *
+     * @return El estado, la tasa y los errores no persistidos de cada origen.
+     */
+    public List<OriginStatus> getOrigins() {
+        long now = System.currentTimeMillis();
+        List<OriginStatus> origins = new ArrayList<>(windows.size());
+        windows.forEach((origin, window) -> origins.add(new OriginStatus(origin, window.state.get(),
+                window.rate(now), window.skippedTotal.sum() + window.skipped.sum())));
+        return origins;
+    }
+
+    public long getDegradedOrigins() {
+        return windows.values().stream().filter(window -> window.state.get() == DegradationState.DEGRADED).count();
+    }
+
+    public long getTransitions() {
+        return transitions.sum();
+    }
+
+    public long getSkipped() {
+        return skipped.sum();
+    }
+
+    @PreDestroy
+    public void close() {
+        periodicEvaluation.dispose();
+        if (scheduler != null) {
+            scheduler.dispose();
+        }
+    }
+
+    private OriginWindow window(String origin) {
+        OriginWindow window = windows.get(origin);
+        if (window == null) {
+            String key = windows.size() >= maxOrigins ? OVERFLOW_ORIGIN : origin;
+            window = windows.computeIfAbsent(key, k -> new OriginWindow(k, windowBuckets));
+        }
+        return window;
+    }
+
+    /**
+     * Reevalúa los orígenes: recupera los que bajaron del umbral, resume los errores no persistidos
+     * de los degradados y descarta los inactivos.
+     */
+    private void evaluate() {
+        long now = System.currentTimeMillis();
+        windows.forEach((origin, window) -> {
+            double rate = window.rate(now);
+            if (window.state.get() == DegradationState.DEGRADED) {
+                if (rate <= recoverErrorsPerSecond) {
+                    transition(window, DegradationState.DEGRADED, DegradationState.NORMAL, rate);
+                } else if (now - window.lastSummaryMillis >= summaryIntervalMillis) {
+                    summarize(window, rate, now);
+                }
+            } else if (rate == 0 && now - window.lastErrorMillis > windowMillis) {
+                windows.remove(origin, window);
+            }
+        });
+    }
+
+    private void transition(OriginWindow window, DegradationState from, DegradationState to, double rate) {
+        if (!window.state.compareAndSet(from, to)) {
+            return;
+        }
+        transitions.increment();
+        long now = System.currentTimeMillis();
+        if (to == DegradationState.DEGRADED) {
+            window.lastSummaryMillis = now;
+            logger.log("Persistencia de errores degradada - " + window.origin, task, LogLevel.WARN,
+                    Map.of("origin", window.origin, "errorsPerSecond", rate, "threshold", degradeErrorsPerSecond,
+                            "sampleRate", sampleRate),
+                    null);
+        } else {
+            long notPersisted = window.skipped.sumThenReset();
+            window.skippedTotal.add(notPersisted);
+            logger.log("Persistencia de errores restablecida - " + window.origin, task, LogLevel.INFO,
+                    Map.of("origin", window.origin, "errorsPerSecond", rate, "notPersisted", notPersisted),
+                    null);
+        }
+    }
+
+    private void summarize(OriginWindow window, double rate, long now) {
+        window.lastSummaryMillis = now;
+        long notPersisted = window.skipped.sumThenReset();
+        window.skippedTotal.add(notPersisted);
+        if (notPersisted > 0) {
+            logger.log("Errores no persistidos por degradación: " + notPersisted, task, LogLevel.WARN,
+                    Map.of("origin", window.origin, "errorsPerSecond", rate, "notPersisted", notPersisted),
+                    null);
+        }
+    }
+
+    /**
+     * Estado de la persistencia de errores de un origen.
+     *
+     * @param origin          El origen; {@code *} agrupa los orígenes por encima del límite.
+     * @param state           El estado actual.
+     * @param errorsPerSecond La tasa de errores en la ventana.
+     * @param notPersisted    Los errores no persistidos desde el inicio.
+     */
+    public record OriginStatus(String origin, DegradationState state, double errorsPerSecond, long notPersisted) {
+    }
+
+    private final class OriginWindow {
+
+        private final String origin;
+        private final AtomicLongArray counts;
+        private final AtomicLongArray epochs;
+        private final AtomicReference<DegradationState> state = new AtomicReference<>(DegradationState.NORMAL);
+        private final AtomicLong sampleCounter = new AtomicLong();
+        private final LongAdder skipped = new LongAdder();
+        private final LongAdder skippedTotal = new LongAdder();
+        private volatile long lastErrorMillis;
+        private volatile long lastSummaryMillis;
+
+        OriginWindow(String origin, int buckets) {
+            this.origin = origin;
+            this.counts = new AtomicLongArray(buckets);
+            this.epochs = new AtomicLongArray(buckets);
+        }
+
+        void record(long now) {
+            long epoch = now / bucketMillis;
+            int index = (int) (epoch % windowBuckets);
+            long current = epochs.get(index);
+            if (current != epoch && epochs.compareAndSet(index, current, epoch)) {
+                // El intervalo se reutiliza: descartar la cuenta de la vuelta anterior
+                counts.set(index, 0);
+            }
+            counts.incrementAndGet(index);
+            lastErrorMillis = now;
+        }
+
+        double rate(long now) {
+            long oldest = now / bucketMillis - windowBuckets;
+            long total = 0;
+            for (int i = 0; i < windowBuckets; i++) {
+                if (epochs.get(i) > oldest) {
+                    total += counts.get(i);
+                }
+            }
+            return total * 1000.0 / windowMillis;
+        }
+    }
+}
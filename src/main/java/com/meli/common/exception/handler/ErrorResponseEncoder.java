@@ -0,0 +1,89 @@
+package com.meli.common.exception.handler;
+
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.meli.application.dto.GenericResponseDto;
+import com.meli.application.service.MessageService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Encoder de las respuestas de error {@link GenericResponseDto} a partir de las plantillas de
+ * {@link ErrorResponseTemplates}, sin serializar el DTO con Jackson.
+ *
+ * <p>
+ * Solo se usan las plantillas para respuestas con {@code success=false}, sin documentos y con
+ * fecha, que son las que crea {@link ExceptionAdvisor}; el resto se delega a Jackson. Las plantillas
+ * reproducen la salida de un {@link ObjectMapper} con la configuración por defecto de Spring Boot y
+ * no leen las propiedades {@code spring.jackson.*}: si el {@link ObjectMapper} de la aplicación
+ * cambia el nombre de las propiedades, el formato de las fechas, la indentación o agrega un mixin
+ * para el DTO, todas las respuestas se delegan a Jackson.
+ * </p>
+ */
+public class ErrorResponseEncoder extends AbstractEncoder<GenericResponseDto> {
+
+    private final ErrorResponseTemplates templates;
+    private final MessageService messageService;
+    private final Jackson2JsonEncoder jacksonEncoder;
+    private final boolean templatesEnabled;
+
+    public ErrorResponseEncoder(ErrorResponseTemplates templates, MessageService messageService,
+            ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.templates = templates;
+        this.messageService = messageService;
+        this.jacksonEncoder = new Jackson2JsonEncoder(objectMapper);
+        this.templatesEnabled = matchesTemplates(objectMapper);
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        // Las subclases del DTO pueden agregar campos que las plantillas no conocen
+        return elementType.toClass() == GenericResponseDto.class && super.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends GenericResponseDto> inputStream,
+            DataBufferFactory bufferFactory, ResolvableType elementType, MimeType mimeType,
+            Map<String, Object> hints) {
+        if (inputStream instanceof Mono) {
+            return Mono.from(inputStream)
+                    .map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints))
+                    .flux();
+        }
+        return jacksonEncoder.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+    }
+
+    @Override
+    public DataBuffer encodeValue(GenericResponseDto value, DataBufferFactory bufferFactory,
+            ResolvableType valueType, MimeType mimeType, Map<String, Object> hints) {
+        if (!templatesEnabled || value.isSuccess() || value.getDocuments() != null || value.getTimestamp() == null) {
+            return jacksonEncoder.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+        }
+        byte[] body = templates.render(messageService.getMessageVersion(), value.getMessage(), value.getOrigin(),
+                value.getTimestamp(), value.getValidationErrors(), value.getRequestId());
+        return bufferFactory.wrap(body);
+    }
+
+    /**
+     * Indica si el {@link ObjectMapper} escribe el DTO con el mismo formato que las plantillas.
+     */
+    private static boolean matchesTemplates(ObjectMapper objectMapper) {
+        return objectMapper.getPropertyNamingStrategy() == null
+                && !objectMapper.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                && !objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)
+                && objectMapper.findMixInClassFor(GenericResponseDto.class) == null;
+    }
+}
@@ -0,0 +1,178 @@
+package com.meli.common.exception.handler;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+/**
+ * Plantillas preencodificadas de las respuestas de error de {@link ExceptionAdvisor}, que
+ * escribe el {@link ErrorResponseEncoder}.
+ *
+ * <p>
+ * El cuerpo de una respuesta de error es el JSON de
+ * {@link com.meli.application.dto.GenericResponseDto} con {@code success=false}. La parte fija (el
+ * mensaje y los nombres de los campos) se encodifica una vez por mensaje y solo se insertan los
+ * campos que cambian en cada solicitud: el origen, la fecha, los errores de validación y el
+ * identificador de la solicitud. Los campos se escriben en el mismo orden y con el mismo formato
+ * que Jackson, omitiendo los nulos.
+ * </p>
+ *
+ * <p>
+ * Las plantillas y el mensaje de error por defecto dependen de la caché de mensajes: se descartan
+ * cuando cambia su versión. La cantidad de plantillas está acotada; los mensajes que exceden el
+ * límite se encodifican en cada respuesta.
+ * </p>
+ */
+public final class ErrorResponseTemplates {
+
+    private static final JsonStringEncoder ENCODER = JsonStringEncoder.getInstance();
+    private static final byte[] ORIGIN = ascii("{\"success\":false,\"origin\":");
+    private static final byte[] SUCCESS_ONLY = ascii("{\"success\":false");
+    private static final byte[] TIMESTAMP = ascii(",\"timestamp\":\"");
+    private static final byte[] VALIDATION_ERRORS = ascii("\",\"validationErrors\":{");
+    private static final byte[] REQUEST_ID = ascii(",\"requestId\":");
+    private static final byte[] NULL = ascii("null");
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final int maxTemplates;
+    private volatile Templates templates = new Templates(Long.MIN_VALUE);
+
+    public ErrorResponseTemplates(int maxTemplates) {
+        this.maxTemplates = maxTemplates;
+    }
+
+    /**
+     * Obtiene el mensaje de error por defecto, resolviéndolo una sola vez por versión de la caché de
+     * mensajes.
+     *
+     * @param version  La versión actual de la caché de mensajes.
+     * @param resolver La resolución del mensaje por defecto.
+     * @return El mensaje de error por defecto.
+     */
+    public String defaultMessage(long version, Supplier<String> resolver) {
+        Templates current = current(version);
+        String message = current.defaultMessage;
+        if (message == null) {
+            message = resolver.get();
+            current.defaultMessage = message;
+        }
+        return message;
+    }
+
+    /**
+     * Encodifica el cuerpo de una respuesta de error.
+     *
+     * @param version          La versión actual de la caché de mensajes.
+     * @param message          El mensaje de la respuesta, puede ser nulo.
+     * @param origin           El origen de la solicitud, puede ser nulo.
+     * @param timestamp        La fecha de la respuesta.
+     * @param validationErrors Los errores de validación, pueden ser nulos.
+     * @param requestId        El identificador de la solicitud, puede ser nulo.
+     * @return El cuerpo JSON en UTF-8.
+     */
+    public byte[] render(long version, String message, String origin, LocalDateTime timestamp,
+            Map<String, String> validationErrors, String requestId) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_CAPACITY);
+        if (origin != null) {
+            out.writeBytes(ORIGIN);
+            writeString(out, origin);
+        } else {
+            out.writeBytes(SUCCESS_ONLY);
+        }
+        out.writeBytes(template(version, message));
+        out.writeBytes(ascii(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp)));
+        if (validationErrors != null) {
+            out.writeBytes(VALIDATION_ERRORS);
+            boolean first = true;
+            for (Map.Entry<String, String> entry : validationErrors.entrySet()) {
+                if (!first) {
+                    out.write(',');
+                }
+                first = false;
+                writeString(out, entry.getKey());
+                out.write(':');
+                writeNullableString(out, entry.getValue());
+            }
+            out.write('}');
+        } else {
+            out.write('"');
+        }
+        if (requestId != null) {
+            out.writeBytes(REQUEST_ID);
+            writeString(out, requestId);
+        }
+        out.write('}');
+        return out.toByteArray();
+    }
+
+    /**
+     * Obtiene la parte fija que sigue al origen: el mensaje y el inicio de la fecha.
+     */
+    private byte[] template(long version, String message) {
+        if (message == null) {
+            return TIMESTAMP;
+        }
+        Map<String, byte[]> encoded = current(version).encoded;
+        byte[] template = encoded.get(message);
+        if (template == null) {
+            template = encodeTemplate(message);
+            if (encoded.size() < maxTemplates) {
+                encoded.putIfAbsent(message, template);
+            }
+        }
+        return template;
+    }
+
+    private Templates current(long version) {
+        Templates current = templates;
+        if (current.version != version) {
+            // La caché de mensajes se recargó: las plantillas anteriores pueden tener mensajes viejos
+            current = new Templates(version);
+            templates = current;
+        }
+        return current;
+    }
+
+    private static byte[] encodeTemplate(String message) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(message.length() + 32);
+        out.writeBytes(ascii(",\"message\":"));
+        writeString(out, message);
+        out.writeBytes(TIMESTAMP);
+        return out.toByteArray();
+    }
+
+    private static void writeNullableString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            out.writeBytes(NULL);
+        } else {
+            writeString(out, value);
+        }
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        out.write('"');
+        out.writeBytes(ENCODER.quoteAsUTF8(value));
+        out.write('"');
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class Templates {
+
+        private final long version;
+        private final Map<String, byte[]> encoded = new ConcurrentHashMap<>();
+        private volatile String defaultMessage;
+
+        Templates(long version) {
+            this.version = version;
+        }
+    }
+}
@@ -6,21 +6,29 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.server.MissingRequestValueException;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.ServerWebInputException;
 
 import com.meli.application.dto.GenericResponseDto;
+import com.meli.application.filter.TraceabilityAccumulator;
 import com.meli.application.service.MessageService;
 import com.meli.application.service.ServiceErrorService;
 import com.meli.application.service.TraceabilityService;
 import com.meli.common.exception.ServiceException;
+import com.meli.common.utils.context.TransactionContext;
 import com.meli.common.utils.enums.LogLevel;
+import com.meli.common.utils.fingerprint.ErrorFingerprint;
 import com.meli.common.utils.enums.MessageMapping;
 import com.meli.common.utils.enums.TraceabilityStatus;
+import com.meli.common.utils.log.LogRateLimiter;
+import com.meli.common.utils.log.RequestLogBuffer;
 import com.meli.common.utils.log.ServiceLogger;
+import com.meli.common.utils.sampling.SamplingService;
 import com.meli.common.utils.tasks.Task;
 import com.meli.common.utils.tasks.TaskService;
+import com.meli.common.utils.tasks.TraceabilityTask;
 import com.meli.common.utils.tasks.TraceabilityTaskService;
 import com.meli.core.entity.ServiceError;
 import com.meli.core.entity.Traceability;
@@ -30,7 +38,6 @@ import lombok.Data;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -56,17 +63,29 @@ public class ExceptionAdvisor {
         protected final MessageService messageService;
         protected final TaskService taskService;
         protected final TraceabilityTaskService traceabilityTaskService;
+        protected final LogRateLimiter logRateLimiter;
+        protected final ErrorDegradationManager errorDegradationManager;
+        protected final ErrorResponseTemplates responseTemplates;
+        protected final Task exceptionManagerTask;
+        protected final TraceabilityTask requestErrorTask;
 
         protected static final String EXCEPTION_MANAGER = "EXCEPTION_MANAGER";
 
         public ExceptionAdvisor(TraceabilityService traceabilityService,
                         ServiceErrorService serviceErrorService, MessageService messageService,
-                        TaskService taskService, TraceabilityTaskService traceabilityTaskService) {
+                        TaskService taskService, TraceabilityTaskService traceabilityTaskService,
+                        LogRateLimiter logRateLimiter, ErrorDegradationManager errorDegradationManager,
+                        ErrorResponseTemplates responseTemplates) {
                 this.traceabilityService = traceabilityService;
                 this.serviceErrorService = serviceErrorService;
                 this.messageService = messageService;
                 this.taskService = taskService;
                 this.traceabilityTaskService = traceabilityTaskService;
+                this.logRateLimiter = logRateLimiter;
+                this.errorDegradationManager = errorDegradationManager;
+                this.responseTemplates = responseTemplates;
+                this.exceptionManagerTask = taskService.getTask(EXCEPTION_MANAGER);
+                this.requestErrorTask = traceabilityTaskService.getTask("REQUEST_ERROR");
         }
 
         @ExceptionHandler(ServiceException.class)
@@ -92,7 +111,7 @@ public class ExceptionAdvisor {
                                                                 Collectors.joining(", "))));
 
                 ExceptionDetails details = new ExceptionDetails(ex, exchange,
-                                status, traceabilityStatus, logLevel, taskService.getTaskById(EXCEPTION_MANAGER).get(),
+                                status, traceabilityStatus, logLevel, exceptionManagerTask,
                                 errorMessage, validationErrors);
                 return handleExceptionInternal(details);
         }
@@ -107,7 +126,7 @@ public class ExceptionAdvisor {
                 String errorMessage = "Missing or invalid request value.";
                 ExceptionDetails details = new ExceptionDetails(ex, exchange,
                                 HttpStatus.BAD_REQUEST, TraceabilityStatus.FAILED, LogLevel.WARN,
-                                taskService.getTaskById(EXCEPTION_MANAGER).get(),
+                                exceptionManagerTask,
                                 errorMessage, validationErrors);
                 return handleExceptionInternal(details);
         }
@@ -121,7 +140,7 @@ public class ExceptionAdvisor {
 
                 ExceptionDetails details = new ExceptionDetails(ex, exchange,
                                 HttpStatus.BAD_REQUEST, TraceabilityStatus.FAILED, LogLevel.WARN,
-                                taskService.getTaskById(EXCEPTION_MANAGER).get(),
+                                exceptionManagerTask,
                                 errorMessage, validationErrors);
 
                 return handleExceptionInternal(details);
@@ -132,27 +151,79 @@ public class ExceptionAdvisor {
                         ServerWebExchange exchange) {
                 ExceptionDetails details = new ExceptionDetails(ex, exchange, HttpStatus.INTERNAL_SERVER_ERROR,
                                 TraceabilityStatus.ERROR, LogLevel.ERROR,
-                                taskService.getTaskById(EXCEPTION_MANAGER).get(), null, null);
+                                exceptionManagerTask, null, null);
                 return handleExceptionInternal(details);
         }
 
         protected Mono<ResponseEntity<GenericResponseDto>> handleExceptionInternal(ExceptionDetails details) {
                 details.getExchange().getAttributes().put("TRACEABILITY_STATUS", details.getTraceabilityStatus());
+                // Los logs agrupados de la solicitud se publicarán completos al finalizar
+                RequestLogBuffer.markFailed(details.getExchange());
 
-                String transactionId = details.getExchange().getLogPrefix();
+                TransactionContext context = TransactionContext.of(details.getExchange());
+                String transactionId = context.getTransactionId();
                 Map<String, Object> errorDetails = new HashMap<>();
                 errorDetails.put("exception", details.getEx().getClass().getName());
                 errorDetails.put("message", details.getEx().getMessage());
 
-                traceabilityService.createTraceability(Traceability.builder()
+                String origin = details.getExchange().getRequest().getURI().getPath();
+                // Con una tasa de errores alta en la ruta solo se persiste y registra una muestra
+                if (errorDegradationManager.shouldPersist(details.getExchange(), degradationKey(details))) {
+                        persistError(details, transactionId);
+
+                        // En una ráfaga de la misma excepción solo se registran las primeras ocurrencias
+                        // completas; el resto se resume periódicamente con la cantidad suprimida
+                        if (logRateLimiter.tryAcquire(details.getTask(), details.getEx().getClass(), origin)) {
+                                // El manejador puede ejecutarse en un hilo distinto al de la solicitud
+                                context.run(() -> logger.log("Excepción - " + origin,
+                                                exceptionManagerTask, details.getLogLevel(),
+                                                details.getEx(), null));
+                        }
+                }
+
+                return createErrorResponse(details, transactionId, errorDetails);
+        }
+
+        /**
+         * Obtiene la clave de la ventana de degradación: el patrón de la ruta que
+         * atendió la solicitud o, si ninguna coincidió, la tarea. La ruta concreta no
+         * se usa porque sus variables generan una ventana por recurso.
+         */
+        protected String degradationKey(ExceptionDetails details) {
+                Object pattern = details.getExchange().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                if (pattern != null) {
+                        return pattern.toString();
+                }
+                return details.getTask() != null ? details.getTask().getId() : EXCEPTION_MANAGER;
+        }
+
+        /**
+         * Persiste el evento de trazabilidad y el registro de error de servicio de
+         * una excepción.
+         */
+        protected void persistError(ExceptionDetails details, String transactionId) {
+                // El origen viaja en la tarea de la excepción, propia de cada invocación
+                Task.Origin origin = null;
+                if (details.getEx() instanceof ServiceException
+                                && ((ServiceException) details.getEx()).getTask() != null) {
+                        origin = ((ServiceException) details.getEx()).getTask().getOrigin();
+                }
+                Traceability traceability = Traceability.builder()
                                 .transactionId(transactionId)
-                                .task(traceabilityTaskService.getTaskById("REQUEST_ERROR").get())
+                                .task(requestErrorTask)
                                 .method(details.getExchange().getRequest().getMethod())
                                 .status(details.getTraceabilityStatus())
                                 .origin(details.getExchange().getRequest().getURI().getPath())
                                 .request(details.getExchange().getRequest().toString())
                                 .response(details.getExchange().getResponse().toString())
-                                .build());
+                                .build();
+                // El error se agrega como evento al documento consolidado de la solicitud
+                TraceabilityAccumulator accumulator = TraceabilityAccumulator.get(details.getExchange());
+                if (accumulator != null) {
+                        accumulator.add(traceability);
+                } else if (SamplingService.isSampled(details.getExchange())) {
+                        traceabilityService.createTraceability(traceability);
+                }
 
                 serviceErrorService.createServiceError(ServiceError.builder()
                                 .transactionId(transactionId)
@@ -160,35 +231,39 @@ public class ExceptionAdvisor {
                                 .origin(details.getExchange().getRequest().getURI().getPath())
                                 .method(details.getExchange().getRequest().getMethod())
                                 .task(details.getTask())
-                                .errorClass(details.getEx() instanceof ServiceException
-                                                ? ((ServiceException) details.getEx()).getTask().getOrigin()
-                                                                .getOriginClass()
-                                                : "")
-                                .errorMethod(details.getEx() instanceof ServiceException
-                                                ? ((ServiceException) details.getEx()).getTask().getOrigin()
-                                                                .getOriginMethod()
-                                                : "")
+                                .errorClass(origin != null ? origin.getOriginClass() : "")
+                                .errorMethod(origin != null ? origin.getOriginMethod() : "")
                                 .message(details.getEx().getMessage())
-                                .stackTrace(Arrays.toString(details.getEx().getStackTrace()))
+                                .fingerprint(hasStackTrace(details.getEx()) ? ErrorFingerprint.of(details.getEx())
+                                                : null)
                                 .request(details.getExchange().getRequest().toString())
                                 .response(details.getExchange().getResponse().toString())
                                 .build());
+        }
 
-                logger.log("Excepción - " + details.getExchange().getRequest().getURI().getPath(),
-                                taskService.getTaskById(EXCEPTION_MANAGER).get(), details.getLogLevel(),
-                                details.getEx(), null);
-
-                return createErrorResponse(details, transactionId, errorDetails);
+        /**
+         * Indica si la excepción tiene una traza útil; las excepciones de negocio
+         * livianas (ver {@link com.meli.common.exception.BusinessException}) no la
+         * capturan.
+         */
+        protected boolean hasStackTrace(Exception ex) {
+                return !(ex instanceof ServiceException) || ((ServiceException) ex).isStackTraceEnabled();
         }
 
+        /**
+         * Crea la respuesta de error. El mensaje por defecto se resuelve una vez por
+         * versión de la caché de mensajes; el cuerpo lo escribe el
+         * {@link ErrorResponseEncoder} a partir de plantillas por mensaje.
+         */
         protected Mono<ResponseEntity<GenericResponseDto>> createErrorResponse(ExceptionDetails details,
                         String transactionId,
                         Map<String, Object> errorDetails) {
-
-                String mappedMessage = messageService.mapMessage(MessageMapping.DEFAULT_ERROR.toString());
+                String message = details.getExceptionMessage() != null ? details.getExceptionMessage()
+                                : responseTemplates.defaultMessage(messageService.getMessageVersion(),
+                                                () -> messageService.mapMessage(MessageMapping.DEFAULT_ERROR.toString()));
 
                 GenericResponseDto responseBuilder = GenericResponseDto.builder()
-                                .message(mappedMessage)
+                                .message(message)
                                 .origin(details.getExchange().getRequest().getURI().getPath())
                                 .success(false)
                                 .timestamp(LocalDateTime.now())
@@ -196,10 +271,6 @@ public class ExceptionAdvisor {
                                 .validationErrors(details.getValidationErrors())
                                 .requestId(transactionId).build();
 
-                if (details.getExceptionMessage() != null) {
-                        responseBuilder.setMessage(details.getExceptionMessage());
-                }
-
                 return Mono.just(new ResponseEntity<>(responseBuilder, details.getStatus()));
         }
 
@@ -0,0 +1,189 @@
+package com.meli.common.utils.context;
+
+import java.util.function.Supplier;
+
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Contexto inmutable de la transacción de una solicitud HTTP.
+ *
+ * <p>
+ * Viaja en el {@link Context} de Reactor bajo la clave {@code TransactionContext.class}, por lo
+ * que sigue a la solicitud aunque el pipeline cambie de hilo (callbacks del driver de MongoDB,
+ * {@code publishOn}, etc.). El código reactivo lo obtiene con {@link #deferred()}; el código no
+ * reactivo, como {@code ServiceLogger}, con {@link #current()}, que lee el valor restaurado en el
+ * hilo por {@link TransactionContextPropagation}.
+ * </p>
+ */
+public final class TransactionContext {
+
+    /**
+     * Atributo del exchange donde se guarda el contexto de la solicitud.
+     */
+    public static final String ATTRIBUTE = "TRANSACTION_CONTEXT";
+
+    private static final ThreadLocal<TransactionContext> CURRENT = new ThreadLocal<>();
+
+    private final String transactionId;
+    private final ServerWebExchange exchange;
+
+    private TransactionContext(String transactionId, ServerWebExchange exchange) {
+        this.transactionId = transactionId;
+        this.exchange = exchange;
+    }
+
+    /**
+     * Crea el contexto de una solicitud y lo guarda en sus atributos.
+     *
+     * @param exchange      El exchange de la solicitud.
+     * @param transactionId El identificador de la transacción.
+     * @return El contexto de la transacción.
+     */
+    public static TransactionContext create(ServerWebExchange exchange, String transactionId) {
+        TransactionContext context = new TransactionContext(transactionId, exchange);
+        exchange.getAttributes().put(ATTRIBUTE, context);
+        return context;
+    }
+
+    /**
+     * Obtiene el contexto de una solicitud, creándolo con un identificador nuevo de
+     * {@link TransactionIdGenerator} si aún no existe.
+     *
+     * @param exchange El exchange de la solicitud.
+     * @return El contexto de la transacción.
+     */
+    public static TransactionContext of(ServerWebExchange exchange) {
+        TransactionContext context = exchange.getAttribute(ATTRIBUTE);
+        return context != null ? context : create(exchange, TransactionIdGenerator.next());
+    }
+
+    /**
+     * Obtiene el contexto de la transacción en curso en el hilo actual.
+     *
+     * @return El contexto, o {@code null} si el hilo no está procesando una solicitud.
+     */
+    public static TransactionContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Obtiene el exchange de la transacción en curso en el hilo actual.
+     *
+     * @return El exchange, o {@code null} si el hilo no está procesando una solicitud.
+     */
+    public static ServerWebExchange currentExchange() {
+        TransactionContext context = CURRENT.get();
+        return context != null ? context.exchange : null;
+    }
+
+    /**
+     * Obtiene el contexto de la transacción desde el {@link Context} de Reactor de la suscripción.
+     *
+     * @return Un Mono con el contexto, vacío fuera de una solicitud.
+     */
+    public static Mono<TransactionContext> deferred() {
+        return Mono.deferContextual(view -> Mono.justOrEmpty(from(view)));
+    }
+
+    /**
+     * Obtiene el contexto de la transacción de una vista del {@link Context} de Reactor.
+     *
+     * @param view La vista del contexto.
+     * @return El contexto, o {@code null} si no está presente.
+     */
+    public static TransactionContext from(ContextView view) {
+        return view.getOrDefault(TransactionContext.class, null);
+    }
+
+    /**
+     * Agrega este contexto a un {@link Context} de Reactor.
+     *
+     * @param context El contexto de Reactor.
+     * @return El contexto de Reactor con la transacción.
+     */
+    public Context writeTo(Context context) {
+        return context.put(TransactionContext.class, this);
+    }
+
+    /**
+     * Ejecuta una acción con este contexto como transacción en curso del hilo, restaurando el valor
+     * anterior al terminar.
+     *
+     * @param action La acción a ejecutar.
+     */
+    public void run(Runnable action) {
+        TransactionContext previous = enter(this);
+        try {
+            action.run();
+        } finally {
+            exit(this, previous);
+        }
+    }
+
+    /**
+     * Ejecuta una función con este contexto como transacción en curso del hilo, restaurando el valor
+     * anterior al terminar.
+     *
+     * @param action La función a ejecutar.
+     * @param <T>    El tipo del resultado.
+     * @return El resultado de la función.
+     */
+    public <T> T call(Supplier<T> action) {
+        TransactionContext previous = enter(this);
+        try {
+            return action.get();
+        } finally {
+            exit(this, previous);
+        }
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public ServerWebExchange getExchange() {
+        return exchange;
+    }
+
+    /**
+     * Establece como transacción en curso del hilo la de una solicitud, o la quita si el exchange es
+     * nulo. Existe solo para el código que fijaba el exchange del hilo manualmente; quien la usa debe
+     * quitar el contexto al terminar.
+     *
+     * @param exchange El exchange de la solicitud, puede ser nulo.
+     */
+    public static void bindToCurrentThread(ServerWebExchange exchange) {
+        if (exchange != null) {
+            CURRENT.set(of(exchange));
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Establece el contexto del hilo solo si cambia, para no escribir el ThreadLocal en cada señal.
+     *
+     * @return El contexto anterior del hilo.
+     */
+    static TransactionContext enter(TransactionContext context) {
+        TransactionContext previous = CURRENT.get();
+        if (previous != context) {
+            CURRENT.set(context);
+        }
+        return previous;
+    }
+
+    static void exit(TransactionContext context, TransactionContext previous) {
+        if (previous != context) {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.meli.common.utils.context;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.Scannable;
+import reactor.core.publisher.Hooks;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoOperator;
+import reactor.core.publisher.Operators;
+
+/**
+ * Propagación automática del {@link TransactionContext} desde el {@link reactor.util.context.Context}
+ * de Reactor hacia el hilo que ejecuta cada etapa del pipeline.
+ *
+ * <p>
+ * Solo se decoran los operadores que pueden entregar señales en otro hilo (los que no declaran
+ * {@link Scannable.Attr.RunStyle#SYNC}, como {@code publishOn} o los publicadores externos del driver
+ * de MongoDB y de Netty), y solo en suscripciones que llevan una transacción. Las etapas síncronas
+ * posteriores heredan el valor del hilo, de modo que el ThreadLocal se escribe únicamente al cambiar
+ * de hilo y no en cada operador.
+ * </p>
+ */
+public final class TransactionContextPropagation {
+
+    private static final String HOOK_KEY = TransactionContextPropagation.class.getName();
+
+    private TransactionContextPropagation() {
+    }
+
+    /**
+     * Registra el hook de propagación en Reactor.
+     */
+    public static void install() {
+        Hooks.onEachOperator(HOOK_KEY, Operators.<Object>lift(
+                scannable -> scannable.scan(Scannable.Attr.RUN_STYLE) != Scannable.Attr.RunStyle.SYNC,
+                (scannable, subscriber) -> wrap(subscriber)));
+    }
+
+    /**
+     * Elimina el hook de propagación de Reactor.
+     */
+    public static void uninstall() {
+        Hooks.resetOnEachOperator(HOOK_KEY);
+    }
+
+    /**
+     * Suscribe un Mono con el contexto como transacción en curso del hilo, de modo que el código que
+     * se ejecuta al ensamblar y suscribir el pipeline también lo vea.
+     *
+     * @param source  El Mono a suscribir.
+     * @param context El contexto de la transacción.
+     * @param <T>     El tipo del elemento.
+     * @return El Mono con el contexto agregado al {@link reactor.util.context.Context} de Reactor.
+     */
+    public static <T> Mono<T> scoped(Mono<T> source, TransactionContext context) {
+        return new MonoOperator<T, T>(source) {
+            @Override
+            public void subscribe(CoreSubscriber<? super T> actual) {
+                context.run(() -> source.subscribe(new TransactionContextSubscriber<>(actual, context)));
+            }
+        }.contextWrite(context::writeTo);
+    }
+
+    private static CoreSubscriber<? super Object> wrap(CoreSubscriber<? super Object> subscriber) {
+        if (subscriber instanceof TransactionContextSubscriber) {
+            return subscriber;
+        }
+        TransactionContext context = TransactionContext.from(subscriber.currentContext());
+        return context != null ? new TransactionContextSubscriber<>(subscriber, context) : subscriber;
+    }
+}
@@ -0,0 +1,81 @@
+package com.meli.common.utils.context;
+
+import org.reactivestreams.Subscription;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.Scannable;
+import reactor.util.context.Context;
+
+/**
+ * Suscriptor que restablece el {@link TransactionContext} en el hilo mientras entrega cada señal a
+ * su destino, y restaura el valor anterior al terminar.
+ *
+ * @param <T> El tipo de los elementos.
+ */
+final class TransactionContextSubscriber<T> implements CoreSubscriber<T>, Scannable {
+
+    private final CoreSubscriber<? super T> actual;
+    private final TransactionContext context;
+
+    TransactionContextSubscriber(CoreSubscriber<? super T> actual, TransactionContext context) {
+        this.actual = actual;
+        this.context = context;
+    }
+
+    @Override
+    public Context currentContext() {
+        return actual.currentContext();
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        TransactionContext previous = TransactionContext.enter(context);
+        try {
+            actual.onSubscribe(subscription);
+        } finally {
+            TransactionContext.exit(context, previous);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        TransactionContext previous = TransactionContext.enter(context);
+        try {
+            actual.onNext(item);
+        } finally {
+            TransactionContext.exit(context, previous);
+        }
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        TransactionContext previous = TransactionContext.enter(context);
+        try {
+            actual.onError(error);
+        } finally {
+            TransactionContext.exit(context, previous);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        TransactionContext previous = TransactionContext.enter(context);
+        try {
+            actual.onComplete();
+        } finally {
+            TransactionContext.exit(context, previous);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes") // Scannable declara el parámetro sin tipo; Attr<?> no lo sobrescribe
+    public Object scanUnsafe(Attr key) {
+        if (key == Attr.ACTUAL) {
+            return actual;
+        }
+        if (key == Attr.RUN_STYLE) {
+            return Attr.RunStyle.SYNC;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.meli.common.utils.context;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Filtro de WebClient que propaga el identificador de la transacción en curso a las llamadas
+ * salientes, en la cabecera configurada en {@code app.transaction-id.request-header}.
+ *
+ * <pre>
+ * WebClient.builder().filter(transactionIdExchangeFilter).build();
+ * </pre>
+ */
+@Component
+public class TransactionIdExchangeFilter implements ExchangeFilterFunction {
+
+    private final TransactionIdResolver transactionIdResolver;
+
+    public TransactionIdExchangeFilter(TransactionIdResolver transactionIdResolver) {
+        this.transactionIdResolver = transactionIdResolver;
+    }
+
+    @Override
+    @NonNull
+    public Mono<ClientResponse> filter(@NonNull ClientRequest request, @NonNull ExchangeFunction next) {
+        return Mono.deferContextual(view -> {
+            TransactionContext context = TransactionContext.from(view);
+            if (context == null || request.headers().containsKey(transactionIdResolver.getRequestHeader())) {
+                return next.exchange(request);
+            }
+            return next.exchange(ClientRequest.from(request)
+                    .header(transactionIdResolver.getRequestHeader(), context.getTransactionId())
+                    .build());
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package com.meli.common.utils.context;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generador de identificadores de transacción ordenados por tiempo con el formato de UUID versión 7.
+ *
+ * <p>
+ * Los primeros 48 bits son los milisegundos de la época Unix y los 12 bits siguientes un contador
+ * que garantiza el orden estricto de los identificadores generados en el mismo milisegundo, de modo
+ * que los índices por {@code transactionId} reciben inserciones al final en lugar de aleatorias. El
+ * estado es un único {@link AtomicLong} actualizado por CAS, sin bloqueos; los 62 bits restantes son
+ * aleatorios. Cada identificador se escribe directamente en un arreglo de caracteres, sin pasar por
+ * {@link java.util.UUID}.
+ * </p>
+ */
+public final class TransactionIdGenerator {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private TransactionIdGenerator() {
+    }
+
+    /**
+     * Genera un nuevo identificador de transacción.
+     *
+     * @return El identificador en formato UUID canónico de 36 caracteres.
+     */
+    public static String next() {
+        long timeAndCounter = nextTimeAndCounter();
+        long mostSignificant = (timeAndCounter >>> 12) << 16 | 0x7000L | (timeAndCounter & 0xFFFL);
+        long leastSignificant = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+
+        char[] chars = new char[36];
+        writeHex(chars, 0, mostSignificant >>> 32, 8);
+        chars[8] = '-';
+        writeHex(chars, 9, mostSignificant >>> 16, 4);
+        chars[13] = '-';
+        writeHex(chars, 14, mostSignificant, 4);
+        chars[18] = '-';
+        writeHex(chars, 19, leastSignificant >>> 48, 4);
+        chars[23] = '-';
+        writeHex(chars, 24, leastSignificant, 12);
+        return new String(chars);
+    }
+
+    /**
+     * Obtiene el siguiente valor de 60 bits formado por el milisegundo actual y el contador. Si el reloj
+     * retrocede o el contador se agota, se avanza sobre el último valor emitido para conservar el orden.
+     */
+    private static long nextTimeAndCounter() {
+        long candidate = System.currentTimeMillis() << 12;
+        while (true) {
+            long last = LAST.get();
+            long next = candidate > last ? candidate : last + 1;
+            if (LAST.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    private static void writeHex(char[] chars, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
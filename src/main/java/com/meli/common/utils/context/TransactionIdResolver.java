@@ -0,0 +1,92 @@
+package com.meli.common.utils.context;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import com.meli.common.configuration.TransactionIdConfig;
+
+/**
+ * Resuelve el identificador de transacción de una solicitud entrante.
+ *
+ * <p>Usa, en orden, la cabecera configurada (por defecto {@code X-Request-Id}), el trace-id de
+ * {@code traceparent} y, si ninguna trae un valor válido, un identificador nuevo de
+ * {@link TransactionIdGenerator}. Los valores entrantes solo se aceptan si contienen caracteres
+ * seguros para logs y cabeceras y no superan la longitud máxima.</p>
+ */
+@Component
+public class TransactionIdResolver {
+
+    private static final String TRACEPARENT = "traceparent";
+    private static final int TRACE_ID_START = 3;
+    private static final int TRACE_ID_END = 35;
+
+    private final TransactionIdConfig config;
+
+    public TransactionIdResolver(TransactionIdConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Obtiene el identificador de transacción para las cabeceras de una solicitud.
+     *
+     * @param headers Las cabeceras de la solicitud.
+     * @return El identificador entrante válido o uno nuevo.
+     */
+    public String resolve(HttpHeaders headers) {
+        if (config.isAcceptIncoming()) {
+            String incoming = headers.getFirst(config.getRequestHeader());
+            if (isValid(incoming)) {
+                return incoming;
+            }
+        }
+        if (config.isAcceptTraceparent()) {
+            String traceId = traceId(headers.getFirst(TRACEPARENT));
+            if (traceId != null) {
+                return traceId;
+            }
+        }
+        return TransactionIdGenerator.next();
+    }
+
+    public String getRequestHeader() {
+        return config.getRequestHeader();
+    }
+
+    public String getResponseHeader() {
+        return config.getResponseHeader();
+    }
+
+    private boolean isValid(String id) {
+        if (id == null || id.isEmpty() || id.length() > config.getMaxLength()) {
+            return false;
+        }
+        for (int i = 0; i < id.length(); i++) {
+            char c = id.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9'
+                    || c == '-' || c == '_' || c == '.' || c == ':')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Extrae el trace-id de una cabecera {@code traceparent} con el formato
+     * {@code version-traceid-parentid-flags}, descartando el trace-id nulo.
+     */
+    private static String traceId(String traceparent) {
+        if (traceparent == null || traceparent.length() < 55 || traceparent.charAt(2) != '-'
+                || traceparent.charAt(TRACE_ID_END) != '-') {
+            return null;
+        }
+        boolean allZero = true;
+        for (int i = TRACE_ID_START; i < TRACE_ID_END; i++) {
+            char c = traceparent.charAt(i);
+            if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'f')) {
+                return null;
+            }
+            allZero &= c == '0';
+        }
+        return allZero ? null : traceparent.substring(TRACE_ID_START, TRACE_ID_END);
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Este paquete contiene el contexto de transacción de cada solicitud y su propagación a través del
+ * {@link reactor.util.context.Context} de Reactor, incluso cuando el pipeline cambia de hilo.
+ */
+package com.meli.common.utils.context;
@@ -0,0 +1,20 @@
+package com.meli.common.utils.enums;
+
+/**
+ * Enumeración de las políticas de captura de cuerpos HTTP para trazabilidad y logs.
+ *
+ * <p>Define cuánto del cuerpo de una solicitud o respuesta se conserva según su
+ * tipo de contenido, de modo que los endpoints de streaming mantengan su latencia
+ * al primer byte y un consumo de memoria constante.</p>
+ *
+ * <ul>
+ *     <li>{@code CAPTURE} - Conserva un prefijo acotado del cuerpo.</li>
+ *     <li>{@code SAMPLE} - Conserva solo los primeros fragmentos (chunks) del cuerpo, dentro del mismo límite de bytes.</li>
+ *     <li>{@code NONE} - No copia el cuerpo; solo se registra su tamaño.</li>
+ * </ul>
+ */
+public enum BodyCapturePolicy {
+    CAPTURE,
+    SAMPLE,
+    NONE
+}
@@ -0,0 +1,15 @@
+package com.meli.common.utils.enums;
+
+/**
+ * Enumeración de los estados de persistencia de errores de un origen.
+ *
+ * <ul>
+ *     <li>{@code NORMAL} - Cada error se persiste y se registra completo.</li>
+ *     <li>{@code DEGRADED} - La tasa de errores superó el umbral: solo se persiste y registra una
+ *     muestra de los errores y el resto se resume periódicamente.</li>
+ * </ul>
+ */
+public enum DegradationState {
+    NORMAL,
+    DEGRADED
+}
@@ -0,0 +1,18 @@
+package com.meli.common.utils.enums;
+
+/**
+ * Enumeración de los modos de agrupación de los logs de una solicitud HTTP.
+ *
+ * <ul>
+ *     <li>{@code OFF} - Cada línea se publica en el momento en que se registra.</li>
+ *     <li>{@code BATCH} - Las líneas de la solicitud se acumulan y se publican juntas, en un único
+ *     registro, al finalizar la solicitud.</li>
+ *     <li>{@code ON_ERROR} - Las líneas se acumulan y solo se publican, en un único registro, si la
+ *     solicitud termina con error; las solicitudes exitosas no escriben logs.</li>
+ * </ul>
+ */
+public enum LogBufferMode {
+    OFF,
+    BATCH,
+    ON_ERROR
+}
@@ -0,0 +1,18 @@
+package com.meli.common.utils.enums;
+
+/**
+ * Enumeración de los comportamientos de la cola asíncrona de logs cuando se llena.
+ *
+ * <ul>
+ *     <li>{@code BLOCK} - El hilo que registra espera espacio, hasta un tiempo máximo.</li>
+ *     <li>{@code DROP_LOWEST_LEVEL} - Se descartan primero los eventos de menor nivel; los errores
+ *     nunca se descartan y se escriben de forma síncrona si la cola está llena.</li>
+ *     <li>{@code SAMPLE} - Por encima del umbral de ocupación se conserva uno de cada N eventos que no
+ *     son errores.</li>
+ * </ul>
+ */
+public enum LogOverflowPolicy {
+    BLOCK,
+    DROP_LOWEST_LEVEL,
+    SAMPLE
+}
@@ -0,0 +1,18 @@
+package com.meli.common.utils.enums;
+
+/**
+ * Enumeración de los destinos disponibles para los registros de trazabilidad y errores de servicio.
+ *
+ * <ul>
+ *     <li>{@code MONGO} - Escribe los registros en MongoDB por lotes.</li>
+ *     <li>{@code FILE} - Escribe los registros en archivos NDJSON locales con rotación por tamaño.</li>
+ *     <li>{@code NOOP} - Descarta los registros; útil para pruebas de carga y servicios sensibles a la latencia.</li>
+ *     <li>{@code FANOUT} - Entrega cada registro a varios de los destinos anteriores.</li>
+ * </ul>
+ */
+public enum TraceabilitySinkType {
+    MONGO,
+    FILE,
+    NOOP,
+    FANOUT
+}
@@ -0,0 +1,161 @@
+package com.meli.common.utils.fingerprint;
+
+import java.util.Arrays;
+
+/**
+ * Huella de una excepción: identifica las ocurrencias de un mismo error sin comparar su traza
+ * completa.
+ *
+ * <p>
+ * El identificador es un hash FNV-1a de 64 bits de la clase de la excepción, la plantilla de su
+ * mensaje y la clase y el método de los primeros marcos de la pila. La plantilla reemplaza por
+ * {@code {}} cada palabra que contiene dígitos, de modo que los identificadores, montos o fechas del
+ * mensaje no generen huellas distintas. La traza completa solo se construye si se pide, normalmente
+ * una vez por huella.
+ * </p>
+ */
+public final class ErrorFingerprint {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final int MAX_TEMPLATE_LENGTH = 256;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static volatile int maxFrames = 5;
+
+    private final String id;
+    private final String errorClass;
+    private final String messageTemplate;
+    private final StackTraceElement[] frames;
+    private String stackTrace;
+
+    private ErrorFingerprint(String id, String errorClass, String messageTemplate, StackTraceElement[] frames) {
+        this.id = id;
+        this.errorClass = errorClass;
+        this.messageTemplate = messageTemplate;
+        this.frames = frames;
+    }
+
+    /**
+     * Configura la cantidad de marcos de la pila que forman parte de la huella.
+     *
+     * @param frames La cantidad de marcos, al menos uno.
+     */
+    public static void configure(int frames) {
+        maxFrames = Math.max(1, frames);
+    }
+
+    /**
+     * Calcula la huella de una excepción.
+     *
+     * @param error La excepción.
+     * @return La huella de la excepción.
+     */
+    public static ErrorFingerprint of(Throwable error) {
+        String errorClass = error.getClass().getName();
+        String template = templateOf(error.getMessage());
+        StackTraceElement[] frames = error.getStackTrace();
+
+        long hash = hash(FNV_OFFSET, errorClass);
+        hash = hash(hash, template);
+        int limit = Math.min(frames.length, maxFrames);
+        for (int i = 0; i < limit; i++) {
+            hash = hash(hash, frames[i].getClassName());
+            hash = hash(hash, frames[i].getMethodName());
+        }
+        return new ErrorFingerprint(toHex(hash), errorClass, template, frames);
+    }
+
+    /**
+     * Obtiene la plantilla de un mensaje, reemplazando por {@code {}} cada palabra con dígitos.
+     *
+     * @param message El mensaje, puede ser nulo.
+     * @return La plantilla, acotada a 256 caracteres, o {@code null} si el mensaje es nulo.
+     */
+    public static String templateOf(String message) {
+        if (message == null) {
+            return null;
+        }
+        StringBuilder template = new StringBuilder(Math.min(message.length(), MAX_TEMPLATE_LENGTH));
+        int length = message.length();
+        int i = 0;
+        while (i < length && template.length() < MAX_TEMPLATE_LENGTH) {
+            char c = message.charAt(i);
+            if (!isWordChar(c)) {
+                template.append(c);
+                i++;
+                continue;
+            }
+            int start = i;
+            boolean digits = false;
+            while (i < length && isWordChar(message.charAt(i))) {
+                digits |= Character.isDigit(message.charAt(i));
+                i++;
+            }
+            if (digits) {
+                template.append("{}");
+            } else {
+                template.append(message, start, i);
+            }
+        }
+        if (template.length() > MAX_TEMPLATE_LENGTH) {
+            template.setLength(MAX_TEMPLATE_LENGTH);
+        }
+        return template.toString();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getErrorClass() {
+        return errorClass;
+    }
+
+    public String getMessageTemplate() {
+        return messageTemplate;
+    }
+
+    /**
+     * Obtiene la traza completa de la excepción, construyéndola la primera vez que se pide.
+     *
+     * @return La traza de la pila.
+     */
+    public String getStackTrace() {
+        String trace = stackTrace;
+        if (trace == null) {
+            trace = Arrays.toString(frames);
+            stackTrace = trace;
+        }
+        return trace;
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '.';
+    }
+
+    private static long hash(long hash, String value) {
+        if (value == null) {
+            return (hash ^ 0xff) * FNV_PRIME;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        // Separador para que "ab"+"c" y "a"+"bc" no coincidan
+        return (hash ^ 0xfe) * FNV_PRIME;
+    }
+
+    private static String toHex(long value) {
+        char[] out = new char[16];
+        for (int i = 15; i >= 0; i--) {
+            out[i] = HEX[(int) (value & 0xf)];
+            value >>>= 4;
+        }
+        return new String(out);
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Este paquete contiene la huella de las excepciones, que agrupa las ocurrencias de un mismo error
+ * para guardar su traza una sola vez.
+ */
+package com.meli.common.utils.fingerprint;
@@ -0,0 +1,314 @@
+package com.meli.common.utils.log;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.meli.common.utils.enums.LogLevel;
+import com.meli.common.utils.enums.LogOverflowPolicy;
+
+/**
+ * Canal asíncrono de escritura de las líneas de {@link ServiceLogger}.
+ *
+ * <p>
+ * Las líneas llegan ya codificadas y se publican en un {@link LogRingBuffer} acotado; un hilo
+ * dedicado las extrae en lotes y las entrega a SLF4J, de modo que un stdout o un disco lentos
+ * nunca detienen al event loop que atiende la solicitud. El hilo escritor solo se despierta cuando
+ * se acumula un lote o vence el intervalo de espera.
+ * </p>
+ *
+ * <p>
+ * Cuando la cola se llena se aplica la {@link LogOverflowPolicy} configurada y los eventos
+ * descartados se contabilizan por nivel; el escritor informa periódicamente los descartes con una
+ * línea de advertencia. Mientras el canal no está iniciado las líneas se escriben de forma síncrona.
+ * </p>
+ *
+ * <p>
+ * Si hay un {@link MappedFileLogAppender} activo, las líneas se escriben en sus segmentos en lugar
+ * de entregarse a SLF4J. Solo el hilo escritor abre, rota y cierra segmentos, incluido el cierre por
+ * tiempo cuando no llegan líneas; las escrituras síncronas de respaldo que lo requerirían se
+ * entregan a SLF4J.
+ * </p>
+ */
+public final class AsyncLogPipeline {
+
+    private static final Logger PIPELINE_LOGGER = LoggerFactory.getLogger(AsyncLogPipeline.class);
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private static final LongAdder[] DROPPED = newCounters();
+    private static final LongAdder SAMPLED_OUT = new LongAdder();
+    private static final LongAdder WRITTEN = new LongAdder();
+    private static final LongAdder SYNC_FALLBACKS = new LongAdder();
+
+    private static volatile Pipeline pipeline;
+
+    private AsyncLogPipeline() {
+    }
+
+    /**
+     * Inicia el canal asíncrono, reemplazando uno anterior si existía.
+     *
+     * @param capacity          La capacidad de la cola; se redondea a una potencia de dos.
+     * @param batchSize         La cantidad de eventos acumulados que despierta al escritor.
+     * @param idleMillis        El tiempo máximo que el escritor espera sin eventos.
+     * @param policy            El comportamiento cuando la cola se llena.
+     * @param blockTimeoutMillis La espera máxima con la política {@code BLOCK}.
+     * @param sampleRate        Con la política {@code SAMPLE}, se conserva uno de cada N eventos.
+     * @param highWaterMark     La fracción de ocupación a partir de la cual se descartan o muestrean
+     *                          los eventos de menor nivel.
+     */
+    public static synchronized void start(int capacity, int batchSize, long idleMillis, LogOverflowPolicy policy,
+            long blockTimeoutMillis, int sampleRate, double highWaterMark) {
+        stop(Duration.ofSeconds(1));
+        Pipeline started = new Pipeline(capacity, batchSize, idleMillis, policy, blockTimeoutMillis, sampleRate,
+                highWaterMark);
+        started.thread.start();
+        pipeline = started;
+    }
+
+    /**
+     * Detiene el canal, escribiendo los eventos pendientes durante como máximo el tiempo indicado.
+     *
+     * @param timeout El tiempo máximo de espera.
+     */
+    public static synchronized void stop(Duration timeout) {
+        Pipeline current = pipeline;
+        if (current == null) {
+            return;
+        }
+        pipeline = null;
+        current.running = false;
+        LockSupport.unpark(current.thread);
+        try {
+            current.thread.join(timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Publica una línea codificada para su escritura asíncrona, o la escribe de inmediato si el canal
+     * no está iniciado.
+     *
+     * @param logger El logger SLF4J de destino.
+     * @param level  La severidad de la línea.
+     * @param line   La línea codificada.
+     */
+    public static void publish(Logger logger, LogLevel level, String line) {
+        Pipeline current = pipeline;
+        if (current == null) {
+            // Sin canal asíncrono la escritura síncrona es la configurada: puede rotar segmentos
+            write(logger, level, line, System.nanoTime(), true);
+            return;
+        }
+        current.publish(new LogEvent(logger, level, line, System.nanoTime()));
+    }
+
+    public static boolean isRunning() {
+        return pipeline != null;
+    }
+
+    public static int getQueueDepth() {
+        Pipeline current = pipeline;
+        return current != null ? current.buffer.size() : 0;
+    }
+
+    public static long getDropped(LogLevel level) {
+        return DROPPED[level.ordinal()].sum();
+    }
+
+    public static long getDropped() {
+        long total = 0;
+        for (LongAdder counter : DROPPED) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    public static long getSampledOut() {
+        return SAMPLED_OUT.sum();
+    }
+
+    public static long getWritten() {
+        return WRITTEN.sum();
+    }
+
+    public static long getSyncFallbacks() {
+        return SYNC_FALLBACKS.sum();
+    }
+
+    /**
+     * Escribe una línea en el destino de archivo o, si no está activo o no la acepta, con SLF4J.
+     *
+     * @param mayBlock Si el hilo puede abrir, rotar o cerrar segmentos del destino de archivo.
+     */
+    static void write(Logger logger, LogLevel level, String line, long publishedNanos, boolean mayBlock) {
+        MappedFileLogAppender appender = MappedFileLogAppender.active();
+        if (appender != null && appender.append(logger, level, line, publishedNanos, mayBlock)) {
+            return;
+        }
+        switch (level) {
+            case ERROR:
+                logger.error(line);
+                break;
+            case WARN:
+                logger.warn(line);
+                break;
+            default:
+                logger.info(line);
+                break;
+        }
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[LogLevel.values().length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    private record LogEvent(Logger logger, LogLevel level, String line, long publishedNanos) {
+    }
+
+    private static final class Pipeline implements Runnable {
+
+        private final LogRingBuffer<LogEvent> buffer;
+        private final int batchSize;
+        private final long idleNanos;
+        private final LogOverflowPolicy policy;
+        private final long blockTimeoutNanos;
+        private final int sampleRate;
+        private final int highWaterMark;
+        private final AtomicLong sampleCounter = new AtomicLong();
+        private final Thread thread;
+        private volatile boolean running = true;
+        private long reportedDropped;
+        private long lastReportNanos = System.nanoTime();
+
+        Pipeline(int capacity, int batchSize, long idleMillis, LogOverflowPolicy policy, long blockTimeoutMillis,
+                int sampleRate, double highWaterMark) {
+            this.buffer = new LogRingBuffer<>(capacity);
+            this.batchSize = Math.max(1, Math.min(batchSize, buffer.capacity()));
+            this.idleNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, idleMillis));
+            this.policy = policy;
+            this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+            this.sampleRate = Math.max(1, sampleRate);
+            this.highWaterMark = (int) (buffer.capacity() * Math.min(1.0, Math.max(0.0, highWaterMark)));
+            this.thread = new Thread(this, "service-logger-writer");
+            this.thread.setDaemon(true);
+        }
+
+        void publish(LogEvent event) {
+            if (policy != LogOverflowPolicy.BLOCK && event.level() != LogLevel.ERROR
+                    && buffer.size() >= highWaterMark && !admitAboveHighWaterMark(event)) {
+                return;
+            }
+            if (buffer.offer(event)) {
+                if (buffer.size() == batchSize) {
+                    LockSupport.unpark(thread);
+                }
+                return;
+            }
+            if (policy == LogOverflowPolicy.BLOCK && offerBlocking(event)) {
+                return;
+            }
+            if (event.level() == LogLevel.ERROR) {
+                // Los errores nunca se descartan: se escriben en el hilo que los registra
+                SYNC_FALLBACKS.increment();
+                write(event.logger(), event.level(), event.line(), event.publishedNanos(), false);
+                return;
+            }
+            DROPPED[event.level().ordinal()].increment();
+        }
+
+        /**
+         * Decide si un evento que no es error entra a la cola por encima del umbral de ocupación.
+         */
+        private boolean admitAboveHighWaterMark(LogEvent event) {
+            if (policy == LogOverflowPolicy.SAMPLE) {
+                if (sampleCounter.incrementAndGet() % sampleRate == 0) {
+                    return true;
+                }
+                SAMPLED_OUT.increment();
+                return false;
+            }
+            // DROP_LOWEST_LEVEL: por encima del umbral solo entran advertencias
+            if (event.level() == LogLevel.WARN) {
+                return true;
+            }
+            DROPPED[event.level().ordinal()].increment();
+            return false;
+        }
+
+        private boolean offerBlocking(LogEvent event) {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            LockSupport.unpark(thread);
+            while (System.nanoTime() < deadline) {
+                LockSupport.parkNanos(50_000L);
+                if (buffer.offer(event)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                if (drain() == 0) {
+                    LockSupport.parkNanos(this, idleNanos);
+                }
+                reportDrops();
+                rotateIdleSegment();
+            }
+            drain();
+            reportDrops();
+        }
+
+        private int drain() {
+            int count = 0;
+            LogEvent event;
+            while ((event = buffer.poll()) != null) {
+                try {
+                    write(event.logger(), event.level(), event.line(), event.publishedNanos(), true);
+                } catch (RuntimeException e) {
+                    // Un appender defectuoso no debe detener al escritor
+                }
+                count++;
+            }
+            WRITTEN.add(count);
+            return count;
+        }
+
+        private void rotateIdleSegment() {
+            MappedFileLogAppender appender = MappedFileLogAppender.active();
+            if (appender != null) {
+                try {
+                    appender.rotateIfDue();
+                } catch (RuntimeException e) {
+                    // Un appender defectuoso no debe detener al escritor
+                }
+            }
+        }
+
+        private void reportDrops() {
+            long now = System.nanoTime();
+            if (now - lastReportNanos < DROP_REPORT_INTERVAL_NANOS) {
+                return;
+            }
+            lastReportNanos = now;
+            long dropped = getDropped() + getSampledOut();
+            if (dropped > reportedDropped) {
+                PIPELINE_LOGGER.warn("{\"message\":\"Cola de logs llena, eventos descartados: {}\"}",
+                        dropped - reportedDropped);
+                reportedDropped = dropped;
+            }
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.meli.common.utils.log;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import com.meli.common.utils.enums.LogLevel;
+import com.meli.common.utils.tasks.Task;
+
+/**
+ * Codificador de las líneas de log de {@link ServiceLogger} como objetos JSON de una sola línea.
+ *
+ * <p>
+ * Escribe directamente sobre un {@link StringBuilder} reutilizado por hilo, sin
+ * {@code String.format} ni cadenas intermedias: la única asignación por línea es la cadena
+ * resultante. Las cadenas se escapan según RFC 8259, los números y booleanos se emiten como tales,
+ * y el objeto adjunto se serializa recorriendo mapas, colecciones, arreglos y excepciones hasta una
+ * profundidad, cantidad de elementos y longitud de texto acotadas; el resto de objetos se representa
+ * con su {@code toString()}.
+ * </p>
+ */
+public final class JsonLogEncoder {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(
+            () -> new StringBuilder(INITIAL_CAPACITY));
+
+    private static volatile int maxDepth = 4;
+    private static volatile int maxItems = 50;
+    private static volatile int maxStringLength = 8192;
+
+    private JsonLogEncoder() {
+    }
+
+    /**
+     * Ajusta los límites de serialización del objeto adjunto.
+     *
+     * @param depth        Profundidad máxima de mapas, colecciones y causas anidadas.
+     * @param items        Cantidad máxima de elementos por mapa, colección o arreglo.
+     * @param stringLength Longitud máxima de cada texto; los más largos se truncan.
+     */
+    public static void configure(int depth, int items, int stringLength) {
+        maxDepth = Math.max(0, depth);
+        maxItems = Math.max(0, items);
+        maxStringLength = Math.max(0, stringLength);
+    }
+
+    /**
+     * Codifica una línea de log.
+     *
+     * @param applicationName El nombre de la aplicación.
+     * @param task            La tarea registrada, puede ser nula.
+     * @param transactionId   El identificador de la transacción.
+     * @param message         El mensaje.
+     * @param level           El nivel de log.
+     * @param object          El objeto adjunto, puede ser nulo.
+     * @param processingTime  El tiempo de procesamiento en milisegundos, puede ser nulo.
+     * @return La línea codificada en JSON.
+     */
+    public static String encode(String applicationName, Task task, String transactionId, String message,
+            LogLevel level, Object object, Long processingTime) {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        out.append("{\"applicationName\":");
+        writeString(out, applicationName);
+        out.append(",\"task\":");
+        writeString(out, task != null ? task.getId() : null);
+        out.append(",\"taskDescription\":");
+        writeString(out, task != null ? task.getDescription() : null);
+        out.append(",\"transactionId\":");
+        writeString(out, transactionId);
+        out.append(",\"message\":");
+        writeString(out, message);
+        out.append(",\"logOrigin\":");
+        writeOrigin(out, task != null ? task.getOrigin() : null);
+        out.append(",\"level\":");
+        writeString(out, level != null ? level.name() : null);
+        out.append(",\"object\":");
+        writeValue(out, object, 0);
+        out.append(",\"processingTime\":");
+        if (processingTime != null) {
+            out.append(processingTime.longValue());
+        } else {
+            out.append("null");
+        }
+        out.append('}');
+        String line = out.toString();
+        if (out.capacity() > MAX_RETAINED_CAPACITY) {
+            // No retener por hilo el búfer de una línea excepcionalmente grande
+            BUFFER.set(new StringBuilder(INITIAL_CAPACITY));
+        }
+        return line;
+    }
+
+    /**
+     * Codifica en una única línea JSON las líneas de log agrupadas de una solicitud.
+     * Las líneas ya están codificadas por {@link #encode}, por lo que se incluyen sin
+     * volver a escaparlas en el arreglo {@code entries}.
+     *
+     * @param applicationName El nombre de la aplicación.
+     * @param transactionId   El identificador de la transacción.
+     * @param message         El mensaje del registro agrupado.
+     * @param level           El nivel más severo de las líneas agrupadas.
+     * @param dropped         Las líneas descartadas por superar el límite del búfer.
+     * @param entries         Las líneas codificadas, en orden de registro.
+     * @return La línea codificada en JSON.
+     */
+    public static String encodeBatch(String applicationName, String transactionId, String message,
+            LogLevel level, int dropped, List<String> entries) {
+        int length = 128;
+        for (String entry : entries) {
+            length += entry.length() + 1;
+        }
+        StringBuilder out = new StringBuilder(length);
+        out.append("{\"applicationName\":");
+        writeString(out, applicationName);
+        out.append(",\"transactionId\":");
+        writeString(out, transactionId);
+        out.append(",\"message\":");
+        writeString(out, message);
+        out.append(",\"level\":");
+        writeString(out, level != null ? level.name() : null);
+        out.append(",\"dropped\":").append(dropped);
+        out.append(",\"entries\":[");
+        for (int i = 0; i < entries.size(); i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append(entries.get(i));
+        }
+        out.append("]}");
+        return out.toString();
+    }
+
+    private static void writeOrigin(StringBuilder out, Task.Origin origin) {
+        if (origin == null) {
+            out.append("null");
+            return;
+        }
+        out.append("{\"class\":");
+        writeString(out, origin.getOriginClass());
+        out.append(",\"method\":");
+        writeString(out, origin.getOriginMethod());
+        out.append('}');
+    }
+
+    private static void writeValue(StringBuilder out, Object value, int depth) {
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof CharSequence text) {
+            writeString(out, text);
+        } else if (value instanceof Boolean bool) {
+            out.append(bool.booleanValue());
+        } else if (value instanceof Number number) {
+            writeNumber(out, number);
+        } else if (value instanceof Enum<?> constant) {
+            writeString(out, constant.name());
+        } else if (depth >= maxDepth) {
+            writeString(out, value.getClass().getSimpleName());
+        } else if (value instanceof Map<?, ?> map) {
+            writeMap(out, map, depth);
+        } else if (value instanceof Iterable<?> iterable) {
+            writeIterable(out, iterable, depth);
+        } else if (value.getClass().isArray()) {
+            writeArray(out, value, depth);
+        } else if (value instanceof Throwable error) {
+            writeThrowable(out, error, depth);
+        } else {
+            writeString(out, value.toString());
+        }
+    }
+
+    private static void writeNumber(StringBuilder out, Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            out.append(number.longValue());
+        } else if (number instanceof Double || number instanceof Float) {
+            double value = number.doubleValue();
+            if (Double.isFinite(value)) {
+                out.append(value);
+            } else {
+                // NaN e infinito no son números JSON válidos
+                writeString(out, Double.toString(value));
+            }
+        } else if (number instanceof BigDecimal || number instanceof BigInteger) {
+            out.append(number);
+        } else {
+            writeString(out, number.toString());
+        }
+    }
+
+    private static void writeMap(StringBuilder out, Map<?, ?> map, int depth) {
+        out.append('{');
+        int count = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (count > 0) {
+                out.append(',');
+            }
+            if (count == maxItems) {
+                out.append("\"...\":").append(map.size() - count);
+                break;
+            }
+            writeString(out, String.valueOf(entry.getKey()));
+            out.append(':');
+            writeValue(out, entry.getValue(), depth + 1);
+            count++;
+        }
+        out.append('}');
+    }
+
+    private static void writeIterable(StringBuilder out, Iterable<?> iterable, int depth) {
+        out.append('[');
+        int count = 0;
+        for (Object item : iterable) {
+            if (count > 0) {
+                out.append(',');
+            }
+            if (count == maxItems) {
+                out.append("\"...\"");
+                break;
+            }
+            writeValue(out, item, depth + 1);
+            count++;
+        }
+        out.append(']');
+    }
+
+    private static void writeArray(StringBuilder out, Object array, int depth) {
+        int length = Array.getLength(array);
+        int limit = Math.min(length, maxItems);
+        out.append('[');
+        for (int i = 0; i < limit; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            writeValue(out, Array.get(array, i), depth + 1);
+        }
+        if (length > limit) {
+            out.append(limit > 0 ? ",\"...\"" : "\"...\"");
+        }
+        out.append(']');
+    }
+
+    private static void writeThrowable(StringBuilder out, Throwable error, int depth) {
+        out.append("{\"exception\":");
+        writeString(out, error.getClass().getName());
+        out.append(",\"message\":");
+        writeString(out, error.getMessage());
+        StackTraceElement[] stackTrace = error.getStackTrace();
+        if (stackTrace.length > 0) {
+            out.append(",\"at\":");
+            writeString(out, stackTrace[0].toString());
+        }
+        Throwable cause = error.getCause();
+        if (cause != null && cause != error) {
+            out.append(",\"cause\":");
+            writeValue(out, cause, depth + 1);
+        }
+        out.append('}');
+    }
+
+    /**
+     * Escribe un texto entre comillas escapando comillas, barras invertidas, caracteres de control y
+     * los separadores de línea Unicode, que algunos lectores de logs tratan como saltos de línea.
+     */
+    private static void writeString(StringBuilder out, CharSequence text) {
+        if (text == null) {
+            out.append("null");
+            return;
+        }
+        int length = Math.min(text.length(), maxStringLength);
+        if (length < text.length() && length > 0 && Character.isHighSurrogate(text.charAt(length - 1))) {
+            length--;
+        }
+        out.append('"');
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                case '\b':
+                    out.append("\\b");
+                    break;
+                case '\f':
+                    out.append("\\f");
+                    break;
+                default:
+                    if (c < 0x20 || c == 0x2028 || c == 0x2029) {
+                        out.append("\\u").append(HEX[c >> 12 & 0xF]).append(HEX[c >> 8 & 0xF])
+                                .append(HEX[c >> 4 & 0xF]).append(HEX[c & 0xF]);
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        if (text.length() > length) {
+            out.append("...[truncado]");
+        }
+        out.append('"');
+    }
+}
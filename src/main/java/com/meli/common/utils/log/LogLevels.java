@@ -0,0 +1,73 @@
+package com.meli.common.utils.log;
+
+import com.meli.common.utils.enums.LogLevel;
+
+/**
+ * Nivel de log vigente de {@link ServiceLogger}.
+ *
+ * <p>Se guarda ya convertido a {@link LogLevel} en un campo volátil, de modo que cada llamada a
+ * {@code log} solo compara ordinales. Se inicializa con {@code app.loglevel}, que se conserva como
+ * nivel configurado, y puede cambiarse en tiempo de ejecución desde el endpoint de nivel de log o con
+ * el parámetro {@code LOG_LEVEL} de {@code coll_param}.</p>
+ */
+public final class LogLevels {
+
+    private static volatile LogLevel level = LogLevel.INFO;
+    private static volatile LogLevel configuredLevel = LogLevel.INFO;
+
+    private LogLevels() {
+    }
+
+    public static LogLevel getLevel() {
+        return level;
+    }
+
+    public static void setLevel(LogLevel newLevel) {
+        if (newLevel == null) {
+            throw new IllegalArgumentException("El nivel de log no puede ser nulo");
+        }
+        level = newLevel;
+    }
+
+    /**
+     * Cambia el nivel de log a partir de su nombre, sin distinguir mayúsculas.
+     *
+     * @param newLevel El nombre del nivel.
+     * @throws IllegalArgumentException si el nombre no corresponde a un {@link LogLevel}.
+     */
+    public static void setLevel(String newLevel) {
+        if (newLevel == null) {
+            throw new IllegalArgumentException("El nivel de log no puede ser nulo");
+        }
+        setLevel(LogLevel.valueOf(newLevel.trim().toUpperCase()));
+    }
+
+    /**
+     * Fija el nivel configurado con {@code app.loglevel} y lo aplica como nivel vigente.
+     *
+     * @param newLevel El nombre del nivel.
+     * @throws IllegalArgumentException si el nombre no corresponde a un {@link LogLevel}.
+     */
+    public static void setConfiguredLevel(String newLevel) {
+        setLevel(newLevel);
+        configuredLevel = level;
+    }
+
+    /**
+     * Vuelve al nivel configurado con {@code app.loglevel}, descartando los cambios en tiempo de
+     * ejecución.
+     */
+    public static void restoreConfiguredLevel() {
+        level = configuredLevel;
+    }
+
+    /**
+     * Indica si los mensajes del nivel indicado superan el nivel vigente.
+     *
+     * @param messageLevel El nivel del mensaje.
+     * @return {@code true} si el mensaje debe registrarse.
+     */
+    public static boolean isEnabled(LogLevel messageLevel) {
+        return messageLevel.ordinal() >= level.ordinal();
+    }
+}
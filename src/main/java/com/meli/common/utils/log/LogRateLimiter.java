@@ -0,0 +1,149 @@
+package com.meli.common.utils.log;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.meli.common.configuration.LogConfig;
+import com.meli.common.utils.enums.LogLevel;
+import com.meli.common.utils.tasks.Task;
+
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Limitador de líneas de log repetidas, pensado para las ráfagas de excepciones que produce una
+ * dependencia caída.
+ *
+ * <p>
+ * Cada combinación de tarea, clase de excepción y origen tiene un token bucket sin bloqueos
+ * (algoritmo GCRA: un único {@link AtomicLong} con el instante teórico de la próxima llegada,
+ * actualizado por CAS). Las primeras ocurrencias se registran completas y, agotada la ráfaga, solo
+ * las permitidas por la tasa configurada; las demás se cuentan y se informan periódicamente en una
+ * línea de resumen por combinación.
+ * </p>
+ */
+@Component
+public class LogRateLimiter {
+
+    private static final String OVERFLOW_ORIGIN = "*";
+
+    private final ServiceLogger<?> logger = new ServiceLogger<>(LogRateLimiter.class);
+    private final Map<Key, Bucket> buckets = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final int maxKeys;
+    private final Scheduler scheduler;
+    private final Disposable periodicSummary;
+
+    public LogRateLimiter(LogConfig logConfig) {
+        this.enabled = logConfig.isRateLimitEnabled();
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1)
+                / Math.max(0.001, logConfig.getRateLimitPerSecond()));
+        this.toleranceNanos = emissionIntervalNanos * Math.max(0, logConfig.getRateLimitBurst() - 1);
+        this.maxKeys = Math.max(1, logConfig.getRateLimitMaxKeys());
+        if (enabled) {
+            this.scheduler = Schedulers.newSingle("log-rate-limiter", true);
+            this.periodicSummary = scheduler.schedulePeriodically(this::summarize,
+                    logConfig.getRateLimitSummaryIntervalMillis(), logConfig.getRateLimitSummaryIntervalMillis(),
+                    TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+            this.periodicSummary = Disposables.disposed();
+        }
+    }
+
+    /**
+     * Indica si una nueva ocurrencia debe registrarse completa; si no, queda contabilizada como
+     * suprimida para el próximo resumen.
+     *
+     * @param task           La tarea que registra la excepción.
+     * @param exceptionClass La clase de la excepción.
+     * @param origin         El origen de la solicitud.
+     * @return {@code true} si la línea debe registrarse.
+     */
+    public boolean tryAcquire(Task task, Class<?> exceptionClass, String origin) {
+        if (!enabled) {
+            return true;
+        }
+        String taskId = task != null ? task.getId() : null;
+        Key key = new Key(taskId, exceptionClass.getName(), origin);
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                key = new Key(taskId, exceptionClass.getName(), OVERFLOW_ORIGIN);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(task));
+        }
+        if (bucket.tryAcquire(System.nanoTime())) {
+            return true;
+        }
+        bucket.suppressed.increment();
+        return false;
+    }
+
+    @PreDestroy
+    public void close() {
+        periodicSummary.dispose();
+        if (scheduler != null) {
+            summarize();
+            scheduler.dispose();
+        }
+    }
+
+    /**
+     * Registra una línea de resumen por cada combinación con ocurrencias suprimidas y descarta las
+     * combinaciones inactivas.
+     */
+    private void summarize() {
+        long now = System.nanoTime();
+        buckets.forEach((key, bucket) -> {
+            long suppressed = bucket.suppressed.sumThenReset();
+            if (suppressed > 0) {
+                logger.log(() -> "Excepciones repetidas suprimidas: " + suppressed,
+                        bucket.task, LogLevel.WARN,
+                        () -> Map.of("exception", key.exceptionClass(), "origin", String.valueOf(key.origin()),
+                                "suppressed", suppressed),
+                        null);
+            } else if (now - bucket.theoreticalArrival.get() > toleranceNanos + emissionIntervalNanos) {
+                // El bucket volvió a estar lleno: recrearlo equivale a conservarlo
+                buckets.remove(key, bucket);
+            }
+        });
+    }
+
+    private record Key(String taskId, String exceptionClass, String origin) {
+    }
+
+    private final class Bucket {
+
+        private final Task task;
+        private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+        private final LongAdder suppressed = new LongAdder();
+
+        Bucket(Task task) {
+            this.task = task;
+        }
+
+        boolean tryAcquire(long now) {
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                if (now - (arrival - toleranceNanos) < 0) {
+                    return false;
+                }
+                long next = Math.max(arrival, now) + emissionIntervalNanos;
+                if (theoreticalArrival.compareAndSet(arrival, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.meli.common.utils.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Búfer circular acotado y sin bloqueos con varios productores y un único consumidor.
+ *
+ * <p>Los productores reservan una posición con CAS sobre la cola y publican el elemento con una
+ * escritura ordenada; el consumidor, un único hilo, lee la posición de la cabeza y la libera. Un
+ * productor que reservó una posición pero aún no publicó detiene al consumidor en esa posición
+ * hasta completar la publicación, preservando el orden.</p>
+ *
+ * @param <E> El tipo de los elementos.
+ */
+final class LogRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    LogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1) << 1);
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Agrega un elemento si hay espacio.
+     *
+     * @param element El elemento a agregar.
+     * @return {@code false} si el búfer estaba lleno.
+     */
+    boolean offer(E element) {
+        long position;
+        do {
+            position = tail.get();
+            if (position - head.get() >= slots.length()) {
+                return false;
+            }
+        } while (!tail.compareAndSet(position, position + 1));
+        slots.lazySet((int) (position & mask), element);
+        return true;
+    }
+
+    /**
+     * Extrae el siguiente elemento. Solo debe invocarse desde el hilo consumidor.
+     *
+     * @return El elemento, o {@code null} si no hay ninguno publicado.
+     */
+    E poll() {
+        long position = head.get();
+        int index = (int) (position & mask);
+        E element = slots.get(index);
+        if (element == null) {
+            return null;
+        }
+        slots.lazySet(index, null);
+        head.lazySet(position + 1);
+        return element;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
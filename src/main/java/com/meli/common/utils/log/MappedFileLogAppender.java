@@ -0,0 +1,377 @@
+package com.meli.common.utils.log;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.meli.common.utils.enums.LogLevel;
+
+/**
+ * Destino de archivo de las líneas de {@link ServiceLogger} basado en segmentos mapeados en memoria.
+ *
+ * <p>
+ * Cada segmento se crea con su tamaño final y se mapea completo, de modo que escribir una línea es
+ * codificarla directamente en la memoria mapeada, sin una llamada al sistema por escritura; el
+ * sistema operativo vuelca las páginas al disco. El segmento en uso se llama
+ * {@code <prefix>-<epochMillis>-<n>.log.active} y, al rotar por tamaño o por tiempo, se recorta a lo
+ * escrito y se renombra a {@code <prefix>-<epochMillis>-<n>.log}, listo para que el agente de envío lo
+ * recoja.
+ * </p>
+ *
+ * <p>
+ * Cada línea es el JSON de {@link JsonLogEncoder} con el instante de escritura y el nombre del logger
+ * agregados al inicio. Normalmente solo escribe el hilo del {@link AsyncLogPipeline}; las escrituras
+ * síncronas de respaldo se serializan con el mismo monitor. Si el segmento no puede crearse, o la
+ * línea no cabe en un segmento vacío, la línea se entrega a SLF4J.
+ * </p>
+ *
+ * <p>
+ * Abrir, rotar y cerrar un segmento bloquea en disco, por lo que con el canal asíncrono en marcha
+ * solo lo hace su hilo escritor: una escritura síncrona de respaldo que necesitaría rotar se entrega
+ * a SLF4J. El escritor también cierra por tiempo el segmento de un servicio inactivo. Al activarse,
+ * los segmentos {@code .log.active} que quedaron de una ejecución interrumpida se recortan a su
+ * última línea completa y se renombran para su envío.
+ * </p>
+ */
+public final class MappedFileLogAppender {
+
+    private static final Logger APPENDER_LOGGER = LoggerFactory.getLogger(MappedFileLogAppender.class);
+    private static final String ACTIVE_SUFFIX = ".log.active";
+    private static final String CLOSED_SUFFIX = ".log";
+
+    private static volatile MappedFileLogAppender active;
+
+    private final Path directory;
+    private final String prefix;
+    private final int segmentBytes;
+    private final long rotationIntervalNanos;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final StringBuilder header = new StringBuilder(128);
+
+    private final LongAdder lines = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder rotations = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private volatile long lastLagNanos;
+
+    // Protegidos por el monitor del appender
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private Path activeFile;
+    private long segmentStartNanos;
+    private long segmentLines;
+    private long segmentMaxLagNanos;
+    private long segmentSequence;
+
+    private MappedFileLogAppender(Path directory, String prefix, int segmentBytes, long rotationIntervalMillis) {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.segmentBytes = segmentBytes;
+        this.rotationIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, rotationIntervalMillis));
+    }
+
+    /**
+     * Activa el destino de archivo, cerrando uno anterior si existía.
+     *
+     * @param directory              El directorio de los segmentos.
+     * @param prefix                 El prefijo del nombre de los segmentos.
+     * @param segmentBytes           El tamaño de cada segmento; como máximo {@link Integer#MAX_VALUE}.
+     * @param rotationIntervalMillis El tiempo máximo, en milisegundos, que un segmento permanece abierto.
+     */
+    public static synchronized void start(String directory, String prefix, long segmentBytes,
+            long rotationIntervalMillis) {
+        stop();
+        recoverOrphanedSegments(Path.of(directory), prefix);
+        active = new MappedFileLogAppender(Path.of(directory), prefix,
+                (int) Math.min(Integer.MAX_VALUE, Math.max(4096, segmentBytes)), rotationIntervalMillis);
+    }
+
+    /**
+     * Desactiva el destino de archivo y cierra el segmento en uso. Las líneas posteriores se entregan
+     * a SLF4J.
+     */
+    public static synchronized void stop() {
+        MappedFileLogAppender current = active;
+        if (current == null) {
+            return;
+        }
+        active = null;
+        synchronized (current) {
+            current.closeSegment();
+        }
+    }
+
+    /**
+     * Obtiene el destino de archivo activo.
+     *
+     * @return El destino, o {@code null} si las líneas se escriben con SLF4J.
+     */
+    public static MappedFileLogAppender active() {
+        return active;
+    }
+
+    /**
+     * Escribe una línea en el segmento en uso, rotándolo si corresponde.
+     *
+     * @param logger         El logger de origen, cuyo nombre se agrega a la línea.
+     * @param level          La severidad de la línea; va incluida en la línea codificada.
+     * @param line           La línea codificada.
+     * @param publishedNanos El instante de publicación en el canal, para medir el retraso.
+     * @param mayBlock       Si el hilo puede abrir, rotar o cerrar segmentos; si no, las líneas que
+     *                       lo requieren se rechazan.
+     * @return {@code false} si la línea no pudo escribirse y debe entregarse a SLF4J.
+     */
+    synchronized boolean append(Logger logger, LogLevel level, String line, long publishedNanos,
+            boolean mayBlock) {
+        long now = System.nanoTime();
+        if (mapped != null && now - segmentStartNanos >= rotationIntervalNanos) {
+            if (!mayBlock) {
+                fallbacks.increment();
+                return false;
+            }
+            closeSegment();
+        }
+        if (mapped == null && (!mayBlock || !openSegment(now))) {
+            fallbacks.increment();
+            return false;
+        }
+        writeHeader(logger);
+        int start = mapped.position();
+        if (!encode(line)) {
+            mapped.position(start);
+            if (!mayBlock) {
+                fallbacks.increment();
+                return false;
+            }
+            // El segmento está lleno: se rota y se reintenta una vez en un segmento vacío
+            closeSegment();
+            if (!openSegment(now)) {
+                fallbacks.increment();
+                return false;
+            }
+            start = 0;
+            if (!encode(line)) {
+                mapped.position(0);
+                fallbacks.increment();
+                return false;
+            }
+        }
+        long lag = now - publishedNanos;
+        lastLagNanos = lag;
+        if (lag > segmentMaxLagNanos) {
+            segmentMaxLagNanos = lag;
+        }
+        lines.increment();
+        bytes.add(mapped.position() - start);
+        segmentLines++;
+        return true;
+    }
+
+    /**
+     * Cierra el segmento en uso si superó el intervalo de rotación, aunque no reciba líneas. Lo
+     * invoca periódicamente el hilo escritor del canal asíncrono.
+     */
+    synchronized void rotateIfDue() {
+        if (mapped != null && System.nanoTime() - segmentStartNanos >= rotationIntervalNanos) {
+            closeSegment();
+        }
+    }
+
+    public long getLines() {
+        return lines.sum();
+    }
+
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    public long getRotations() {
+        return rotations.sum();
+    }
+
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    /**
+     * Obtiene el retraso de la última línea escrita, desde su publicación en el canal.
+     *
+     * @return El retraso en milisegundos.
+     */
+    public long getLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastLagNanos);
+    }
+
+    private void writeHeader(Logger logger) {
+        header.setLength(0);
+        header.append("{\"timestamp\":").append(System.currentTimeMillis())
+                .append(",\"logger\":\"").append(logger.getName()).append("\",");
+    }
+
+    /**
+     * Codifica el encabezado y la línea, sin su llave inicial, seguidos de un salto de línea.
+     *
+     * @return {@code false} si no caben en el espacio restante del segmento.
+     */
+    private boolean encode(String line) {
+        encoder.reset();
+        int offset = !line.isEmpty() && line.charAt(0) == '{' ? 1 : 0;
+        if (offset == 0) {
+            // Línea que no es un objeto JSON: se escribe sin encabezado
+            header.setLength(0);
+        }
+        if (encoder.encode(CharBuffer.wrap(header), mapped, false).isOverflow()) {
+            return false;
+        }
+        CoderResult result = encoder.encode(CharBuffer.wrap(line, offset, line.length()), mapped, true);
+        if (result.isOverflow() || encoder.flush(mapped).isOverflow() || !mapped.hasRemaining()) {
+            return false;
+        }
+        mapped.put((byte) '\n');
+        return true;
+    }
+
+    private boolean openSegment(long now) {
+        Path file = directory.resolve(prefix + "-" + System.currentTimeMillis() + "-" + segmentSequence++
+                + ACTIVE_SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+            activeFile = file;
+            segmentStartNanos = now;
+            segmentLines = 0;
+            segmentMaxLagNanos = 0;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            APPENDER_LOGGER.error("{\"message\":\"No se pudo crear el segmento de log {}\"}", file, e);
+            closeQuietly();
+            return false;
+        }
+    }
+
+    /**
+     * Cierra el segmento en uso: lo vuelca al disco, lo recorta a lo escrito y lo renombra para su
+     * envío. Informa la cantidad de líneas, el rendimiento y el retraso máximo del segmento.
+     */
+    private void closeSegment() {
+        if (mapped == null) {
+            return;
+        }
+        int written = mapped.position();
+        Path file = activeFile;
+        try {
+            mapped.force();
+            channel.truncate(written);
+        } catch (IOException | RuntimeException e) {
+            // Algunos sistemas no permiten recortar un archivo mapeado; el relleno queda en ceros
+        }
+        closeQuietly();
+        String name = file.getFileName().toString();
+        Path closed = file.resolveSibling(name.substring(0, name.length() - ACTIVE_SUFFIX.length()) + CLOSED_SUFFIX);
+        try {
+            Files.move(file, closed, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            APPENDER_LOGGER.error("{\"message\":\"No se pudo cerrar el segmento de log {}\"}", file, e);
+        }
+        rotations.increment();
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - segmentStartNanos));
+        APPENDER_LOGGER.info(
+                "{\"message\":\"Segmento de log cerrado\",\"file\":\"{}\",\"lines\":{},\"bytes\":{},"
+                        + "\"linesPerSecond\":{},\"maxLagMillis\":{}}",
+                closed.getFileName(), segmentLines, written, segmentLines * 1000 / elapsedMillis,
+                TimeUnit.NANOSECONDS.toMillis(segmentMaxLagNanos));
+    }
+
+    /**
+     * Cierra los segmentos activos de una ejecución anterior: los recorta tras su última línea
+     * completa, descartando el relleno en ceros, y los renombra para su envío.
+     */
+    private static void recoverOrphanedSegments(Path directory, String prefix) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<Path> orphans;
+        try (Stream<Path> files = Files.list(directory)) {
+            orphans = files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(prefix + "-") && name.endsWith(ACTIVE_SUFFIX);
+            }).toList();
+        } catch (IOException e) {
+            APPENDER_LOGGER.error("{\"message\":\"No se pudieron listar los segmentos de log en {}\"}", directory, e);
+            return;
+        }
+        for (Path file : orphans) {
+            String name = file.getFileName().toString();
+            Path closed = file.resolveSibling(name.substring(0, name.length() - ACTIVE_SUFFIX.length()) + CLOSED_SUFFIX);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                channel.truncate(lastLineEnd(channel));
+            } catch (IOException | RuntimeException e) {
+                APPENDER_LOGGER.error("{\"message\":\"No se pudo recortar el segmento de log {}\"}", file, e);
+                continue;
+            }
+            try {
+                Files.move(file, closed, StandardCopyOption.ATOMIC_MOVE);
+                APPENDER_LOGGER.info("{\"message\":\"Segmento de log recuperado\",\"file\":\"{}\"}",
+                        closed.getFileName());
+            } catch (IOException e) {
+                APPENDER_LOGGER.error("{\"message\":\"No se pudo cerrar el segmento de log {}\"}", file, e);
+            }
+        }
+    }
+
+    /**
+     * Busca desde el final la posición siguiente al último salto de línea; 0 si no hay ninguno.
+     */
+    private static long lastLineEnd(FileChannel channel) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(8192);
+        long end = channel.size();
+        while (end > 0) {
+            long start = Math.max(0, end - chunk.capacity());
+            chunk.clear().limit((int) (end - start));
+            while (chunk.hasRemaining() && channel.read(chunk, start + chunk.position()) >= 0) {
+                // Lee el bloque completo
+            }
+            for (int i = chunk.position() - 1; i >= 0; i--) {
+                if (chunk.get(i) == '\n') {
+                    return start + i + 1;
+                }
+            }
+            end = start;
+        }
+        return 0;
+    }
+
+    private void closeQuietly() {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            // El canal ya no se usa
+        }
+        channel = null;
+        mapped = null;
+        activeFile = null;
+    }
+}
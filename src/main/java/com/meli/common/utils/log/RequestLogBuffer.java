@@ -0,0 +1,144 @@
+package com.meli.common.utils.log;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.web.server.ServerWebExchange;
+
+import com.meli.common.configuration.GeneralConfig;
+import com.meli.common.utils.context.TransactionContext;
+import com.meli.common.utils.enums.LogBufferMode;
+import com.meli.common.utils.enums.LogLevel;
+
+/**
+ * Búfer de las líneas de log de una solicitud HTTP.
+ *
+ * <p>
+ * {@code HttpFilter} lo asocia al exchange al iniciar la solicitud según el
+ * {@link LogBufferMode} configurado; mientras está asociado, {@link ServiceLogger}
+ * agrega aquí las líneas ya codificadas en lugar de publicarlas. Al finalizar la
+ * solicitud el filtro llama a {@link #flush(ServerWebExchange, boolean)}, que publica
+ * todas las líneas en un único registro (ver {@link JsonLogEncoder#encodeBatch}) o,
+ * en el modo {@code ON_ERROR}, las descarta si la solicitud fue exitosa.
+ * </p>
+ *
+ * <p>
+ * El número de líneas está acotado para limitar la memoria por solicitud; las
+ * líneas que exceden el límite se descartan y se informan en el registro, salvo los
+ * errores, que se publican de inmediato.
+ * </p>
+ */
+public class RequestLogBuffer {
+
+    private static final String BUFFER_ATTRIBUTE = "REQUEST_LOG_BUFFER";
+    private static final String BATCH_MESSAGE = "Registros de la solicitud";
+
+    private static final ServiceLogger<RequestLogBuffer> LOGGER = new ServiceLogger<>(RequestLogBuffer.class);
+
+    private final LogBufferMode mode;
+    private final int maxEntries;
+    private final List<String> entries = new ArrayList<>(8);
+    private LogLevel maxLevel = LogLevel.ALL;
+    private int dropped;
+    private boolean failed;
+
+    private RequestLogBuffer(LogBufferMode mode, int maxEntries) {
+        this.mode = mode;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Crea un búfer y lo asocia al exchange de la solicitud.
+     *
+     * @param exchange   El exchange de la solicitud.
+     * @param mode       El modo de agrupación; con {@code OFF} no se asocia ningún búfer.
+     * @param maxEntries El máximo de líneas retenidas.
+     * @return El búfer asociado, o {@code null} si el modo es {@code OFF}.
+     */
+    public static RequestLogBuffer attach(ServerWebExchange exchange, LogBufferMode mode, int maxEntries) {
+        if (mode == null || mode == LogBufferMode.OFF) {
+            return null;
+        }
+        RequestLogBuffer buffer = new RequestLogBuffer(mode, maxEntries);
+        exchange.getAttributes().put(BUFFER_ATTRIBUTE, buffer);
+        return buffer;
+    }
+
+    /**
+     * Obtiene el búfer asociado a una solicitud.
+     *
+     * @param exchange El exchange de la solicitud, puede ser nulo.
+     * @return El búfer, o {@code null} si la solicitud no agrupa sus logs.
+     */
+    public static RequestLogBuffer get(ServerWebExchange exchange) {
+        return exchange != null ? exchange.getAttribute(BUFFER_ATTRIBUTE) : null;
+    }
+
+    /**
+     * Marca la solicitud como fallida, para que el modo {@code ON_ERROR} publique sus
+     * líneas aunque la respuesta llegue a tener un estado exitoso.
+     *
+     * @param exchange El exchange de la solicitud.
+     */
+    public static void markFailed(ServerWebExchange exchange) {
+        RequestLogBuffer buffer = get(exchange);
+        if (buffer != null) {
+            synchronized (buffer) {
+                buffer.failed = true;
+            }
+        }
+    }
+
+    /**
+     * Desasocia el búfer del exchange y publica sus líneas según el modo: siempre en
+     * {@code BATCH} y, en {@code ON_ERROR}, solo si la solicitud falló. Los registros
+     * posteriores de la solicitud se publican sin agrupar.
+     *
+     * @param exchange El exchange de la solicitud.
+     * @param failure  Indica si la respuesta de la solicitud es un error.
+     */
+    public static void flush(ServerWebExchange exchange, boolean failure) {
+        RequestLogBuffer buffer = (RequestLogBuffer) exchange.getAttributes().remove(BUFFER_ATTRIBUTE);
+        if (buffer != null) {
+            buffer.publish(exchange, failure);
+        }
+    }
+
+    /**
+     * Agrega una línea codificada al búfer.
+     *
+     * @param level La severidad de la línea.
+     * @param line  La línea codificada por {@link JsonLogEncoder}.
+     * @return {@code false} si el búfer está lleno y la línea es un error, que debe
+     *         publicarse de inmediato.
+     */
+    synchronized boolean add(LogLevel level, String line) {
+        if (entries.size() >= maxEntries) {
+            if (level == LogLevel.ERROR) {
+                return false;
+            }
+            dropped++;
+            return true;
+        }
+        entries.add(line);
+        if (level.ordinal() > maxLevel.ordinal()) {
+            maxLevel = level;
+        }
+        return true;
+    }
+
+    private void publish(ServerWebExchange exchange, boolean failure) {
+        String line;
+        LogLevel level;
+        synchronized (this) {
+            if (entries.isEmpty() || (mode == LogBufferMode.ON_ERROR && !failure && !failed)) {
+                return;
+            }
+            level = maxLevel;
+            line = JsonLogEncoder.encodeBatch(GeneralConfig.getAppId(),
+                    TransactionContext.of(exchange).getTransactionId(), BATCH_MESSAGE, level, dropped, entries);
+            entries.clear();
+        }
+        LOGGER.logMessage(level, line);
+    }
+}
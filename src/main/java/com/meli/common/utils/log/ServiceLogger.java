@@ -1,19 +1,18 @@
 package com.meli.common.utils.log;
 
+import java.util.function.Supplier;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
-import org.springframework.web.server.ServerWebExchange;
 
-import com.meli.application.filter.ContextFilter;
 import com.meli.common.configuration.GeneralConfig;
+import com.meli.common.utils.context.TransactionContext;
 import com.meli.common.utils.enums.LogLevel;
+import com.meli.common.utils.sampling.SamplingService;
 import com.meli.common.utils.tasks.Task;
 
-import lombok.Builder;
-import lombok.Data;
-
 /**
  * Logger de servicio personalizado para registrar mensajes con información
  * contextual adicional.
@@ -49,77 +48,64 @@ public class ServiceLogger<T> {
      * @param object         El objeto a incluir, si está disponible.
      * @param processingTime El tiempo de procesamiento en milisegundos, si está
      *                       disponible.
-     * @return Un que representa el resultado de la operación de log.
      */
     public void log(String message, Task task, LogLevel level, Object object, Long processingTime) {
-        LogLevel currentLevel = LogLevel.valueOf(GeneralConfig.getLogLevel().toUpperCase());
-        LogLevel messageLevel = LogLevel.valueOf(level.toString().toUpperCase());
-
-        if (shouldLog(currentLevel, messageLevel)) {
-            ServerWebExchange exchange = ContextFilter.getCurrentExchange();
-            String applicationName = GeneralConfig.getAppId();
-            String transactionId = exchange != null ? exchange.getLogPrefix() : "N/A";
-            String logOrigin = task != null ? task.getOriginString() : "N/A";
-            ServiceLog serviceLog = ServiceLog.builder()
-                    .applicationName(applicationName)
-                    .task(task)
-                    .taskDescription(task != null ? task.getDescription() : "N/A")
-                    .transactionId(transactionId)
-                    .message(message)
-                    .logOrigin(logOrigin)
-                    .level(level)
-                    .object(object)
-                    .processingTime(processingTime)
-                    .build();
-
-            logMessage(serviceLog);
+        if (isEnabled(task, level)) {
+            emit(message, task, level, object, processingTime);
         }
     }
 
-    private boolean shouldLog(LogLevel currentLevel, LogLevel messageLevel) {
-        return messageLevel.ordinal() >= currentLevel.ordinal();
+    /**
+     * Registra un mensaje de log cuyo texto y objeto solo se construyen si el
+     * nivel está habilitado y la solicitud en curso registra logs.
+     *
+     * @param message        El proveedor del mensaje a registrar.
+     * @param task           La tarea específica que se está registrando.
+     * @param level          El nivel de log.
+     * @param object         El proveedor del objeto a incluir, puede ser nulo.
+     * @param processingTime El tiempo de procesamiento en milisegundos, si está
+     *                       disponible.
+     */
+    public void log(Supplier<String> message, Task task, LogLevel level, Supplier<?> object, Long processingTime) {
+        if (isEnabled(task, level)) {
+            emit(message.get(), task, level, object != null ? object.get() : null, processingTime);
+        }
     }
 
-    public void logMessage(ServiceLog serviceLog) {
-        String logMsg = formatLogMessage(serviceLog);
-        switch (serviceLog.getLevel()) {
-            case ERROR:
-                logger.error(logMsg);
-                break;
-            case WARN: // Cambié de WARNING a WARN para coincidir con los niveles estándar de SLF4J
-                logger.warn(logMsg);
-                break;
-            default:
-                logger.info(logMsg);
-                break;
-        }
+    /**
+     * Indica si un mensaje de una tarea y nivel se registraría en el contexto actual:
+     * el nivel debe superar el vigente para la tarea (ver {@link TaskLogPolicy}) y,
+     * salvo los errores, ni la tarea ni la solicitud en curso deben haberlo
+     * descartado por muestreo.
+     *
+     * @param task  La tarea del mensaje, puede ser nula.
+     * @param level El nivel del mensaje.
+     * @return {@code true} si el mensaje se registraría.
+     */
+    public boolean isEnabled(Task task, LogLevel level) {
+        return TaskLogPolicy.isEnabled(task, level)
+                && (level == LogLevel.ERROR || SamplingService.isSampled(TransactionContext.currentExchange()));
     }
 
-    private String formatLogMessage(ServiceLog serviceLog) {
-        return String.format(
-                "{ \"applicationName\": \"%s\", \"task\": \"%s - %s\", \"transactionId\": \"%s\", \"message\": \"%s\", \"logOrigin\": \"%s\", \"level\": \"%s\", \"object\": \"%s\", \"processingTime\": \"%s\" }",
-                serviceLog.getApplicationName(),
-                serviceLog.getTask(),
-                serviceLog.getTaskDescription(),
-                serviceLog.getTransactionId(),
-                serviceLog.getMessage(),
-                serviceLog.getLogOrigin(),
-                serviceLog.getLevel(),
-                serviceLog.getObject() != null ? serviceLog.getObject().toString() : null,
-                serviceLog.getProcessingTime() != null ? serviceLog.getProcessingTime().toString() : null);
+    private void emit(String message, Task task, LogLevel level, Object object, Long processingTime) {
+        TransactionContext context = TransactionContext.current();
+        String transactionId = context != null ? context.getTransactionId() : "N/A";
+        String line = JsonLogEncoder.encode(GeneralConfig.getAppId(), task, transactionId, message, level,
+                object, processingTime);
+        // Si la solicitud agrupa sus logs, la línea se publica al finalizar la solicitud
+        RequestLogBuffer buffer = RequestLogBuffer.get(context != null ? context.getExchange() : null);
+        if (buffer == null || !buffer.add(level, line)) {
+            logMessage(level, line);
+        }
     }
 
-    @Data
-    @Builder
-    private static class ServiceLog {
-        private String applicationName;
-        private Task task;
-        private String taskDescription;
-        private String transactionId;
-        private String message;
-        private String logOrigin;
-        private LogLevel level;
-        private Object object;
-        private Long processingTime;
+    /**
+     * Publica una línea de log ya codificada en el {@link AsyncLogPipeline}.
+     *
+     * @param level La severidad de la línea.
+     * @param line  La línea codificada por {@link JsonLogEncoder}.
+     */
+    public void logMessage(LogLevel level, String line) {
+        AsyncLogPipeline.publish(logger, level, line);
     }
 }
@@ -0,0 +1,118 @@
+package com.meli.common.utils.log;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.meli.common.utils.enums.LogLevel;
+import com.meli.common.utils.tasks.Task;
+
+/**
+ * Niveles y tasas de muestreo de log por tarea.
+ *
+ * <p>
+ * Las excepciones configuradas en {@code app.log.tasks} y en el parámetro {@code LOG_TASK_OVERRIDES}
+ * de {@code coll_param} (que prevalece) se compilan en una tabla inmutable de arreglos densos
+ * indexados por {@link Task#getIndex()}, publicada mediante un campo volátil. Decidir si una línea se
+ * registra cuesta así un par de lecturas de arreglo. Las tareas sin excepción usan el nivel global de
+ * {@link LogLevels}.
+ * </p>
+ *
+ * <p>
+ * La tasa de muestreo se aplica a los mensajes que no son errores: {@code 0} silencia la tarea y
+ * {@code 1} registra todos sus mensajes.
+ * </p>
+ */
+public final class TaskLogPolicy {
+
+    private static final int SAMPLE_SCALE = 1 << 24;
+    private static final Table EMPTY = new Table(new LogLevel[0], new int[0]);
+
+    private static volatile Table table = EMPTY;
+    private static Map<String, TaskOverride> configOverrides = Map.of();
+    private static Map<String, TaskOverride> paramOverrides = Map.of();
+
+    private TaskLogPolicy() {
+    }
+
+    /**
+     * Reemplaza las excepciones provenientes de la configuración y recompila la tabla.
+     *
+     * @param overrides Las excepciones por identificador de tarea.
+     */
+    public static synchronized void setConfigOverrides(Map<String, TaskOverride> overrides) {
+        configOverrides = Map.copyOf(overrides);
+        compile();
+    }
+
+    /**
+     * Reemplaza las excepciones provenientes de {@code coll_param} y recompila la tabla.
+     *
+     * @param overrides Las excepciones por identificador de tarea.
+     */
+    public static synchronized void setParamOverrides(Map<String, TaskOverride> overrides) {
+        paramOverrides = Map.copyOf(overrides);
+        compile();
+    }
+
+    /**
+     * Indica si un mensaje de una tarea y nivel debe registrarse.
+     *
+     * @param task  La tarea del mensaje, puede ser nula.
+     * @param level El nivel del mensaje.
+     * @return {@code true} si el mensaje debe registrarse.
+     */
+    public static boolean isEnabled(Task task, LogLevel level) {
+        Table current = table;
+        int index = task != null ? task.getIndex() : -1;
+        if (index < 0 || index >= current.levels.length) {
+            return LogLevels.isEnabled(level);
+        }
+        LogLevel threshold = current.levels[index];
+        if (level.ordinal() < (threshold != null ? threshold : LogLevels.getLevel()).ordinal()) {
+            return false;
+        }
+        int sample = current.sampleThresholds[index];
+        return level == LogLevel.ERROR || sample >= SAMPLE_SCALE
+                || sample > 0 && ThreadLocalRandom.current().nextInt(SAMPLE_SCALE) < sample;
+    }
+
+    private static void compile() {
+        Map<String, TaskOverride> merged = new HashMap<>(configOverrides);
+        paramOverrides.forEach((taskId, override) -> merged.merge(taskId, override, TaskOverride::overriddenBy));
+        int size = 0;
+        for (String taskId : merged.keySet()) {
+            size = Math.max(size, Task.indexOf(taskId) + 1);
+        }
+        LogLevel[] levels = new LogLevel[size];
+        int[] sampleThresholds = new int[size];
+        Arrays.fill(sampleThresholds, SAMPLE_SCALE);
+        merged.forEach((taskId, override) -> {
+            int index = Task.indexOf(taskId);
+            levels[index] = override.level();
+            if (override.sampleRate() != null) {
+                double rate = Math.min(1.0, Math.max(0.0, override.sampleRate()));
+                sampleThresholds[index] = (int) Math.round(rate * SAMPLE_SCALE);
+            }
+        });
+        table = new Table(levels, sampleThresholds);
+    }
+
+    /**
+     * Excepción de nivel y muestreo de una tarea; los valores nulos conservan el comportamiento global.
+     *
+     * @param level      El nivel mínimo de la tarea.
+     * @param sampleRate La fracción de mensajes que no son errores que se registran, entre 0 y 1.
+     */
+    public record TaskOverride(LogLevel level, Double sampleRate) {
+
+        TaskOverride overriddenBy(TaskOverride other) {
+            return new TaskOverride(other.level != null ? other.level : level,
+                    other.sampleRate != null ? other.sampleRate : sampleRate);
+        }
+    }
+
+    private record Table(LogLevel[] levels, int[] sampleThresholds) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.meli.common.utils.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias de memoria fija y sin bloqueos.
+ *
+ * <p>
+ * Las latencias se registran en microsegundos en intervalos log-lineales: cada potencia de dos se
+ * divide en {@value #SUB_BUCKETS} intervalos iguales, de modo que un percentil se obtiene con un
+ * error relativo de como máximo 12,5 %. Los valores por encima de unos 12 días se acumulan en el
+ * último intervalo. Registrar una latencia es un incremento atómico en un arreglo, sin asignar
+ * memoria.
+ * </p>
+ *
+ * <p>
+ * El histograma es acumulativo; las vistas de un período se obtienen restando dos
+ * {@link Snapshot}.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_MICROS = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Registra una ejecución.
+     *
+     * @param nanos La duración en nanosegundos.
+     * @param error Si la ejecución terminó con error.
+     */
+    public void record(long nanos, boolean error) {
+        long micros = Math.min(MAX_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        counts.incrementAndGet(bucketOf(micros));
+        totalMicros.add(micros);
+        if (error) {
+            errors.increment();
+        }
+        long max = maxMicros.get();
+        while (micros > max && !maxMicros.compareAndSet(max, micros)) {
+            max = maxMicros.get();
+        }
+    }
+
+    /**
+     * Obtiene una copia de los contadores. Con registros concurrentes la copia puede incluir
+     * parcialmente una ejecución; la diferencia es despreciable para los percentiles.
+     *
+     * @return La copia.
+     */
+    public Snapshot snapshot() {
+        long[] buckets = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = counts.get(i);
+            count += buckets[i];
+        }
+        return new Snapshot(buckets, count, errors.sum(), totalMicros.sum(), maxMicros.get());
+    }
+
+    static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Obtiene el mayor valor que cae en un intervalo.
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /**
+     * Copia inmutable de los contadores de un histograma.
+     */
+    public static final class Snapshot {
+
+        private final long[] buckets;
+        private final long count;
+        private final long errors;
+        private final long totalMicros;
+        private final long maxMicros;
+
+        private Snapshot(long[] buckets, long count, long errors, long totalMicros, long maxMicros) {
+            this.buckets = buckets;
+            this.count = count;
+            this.errors = errors;
+            this.totalMicros = totalMicros;
+            this.maxMicros = maxMicros;
+        }
+
+        /**
+         * Obtiene las ejecuciones registradas desde una copia anterior. El máximo del período se
+         * estima con el límite superior del mayor intervalo ocupado.
+         *
+         * @param previous La copia anterior, puede ser nula.
+         * @return La copia del período.
+         */
+        public Snapshot since(Snapshot previous) {
+            if (previous == null) {
+                return this;
+            }
+            long[] delta = new long[BUCKETS];
+            long max = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                delta[i] = buckets[i] - previous.buckets[i];
+                if (delta[i] > 0) {
+                    max = upperBoundOf(i);
+                }
+            }
+            return new Snapshot(delta, count - previous.count, errors - previous.errors,
+                    totalMicros - previous.totalMicros, Math.min(max, maxMicros));
+        }
+
+        /**
+         * Obtiene un percentil, como el límite superior del intervalo que lo contiene.
+         *
+         * @param percentile El percentil, entre 0 y 100.
+         * @return La latencia en microsegundos, o 0 si no hay ejecuciones.
+         */
+        public long percentileMicros(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(count * Math.min(100.0, percentile) / 100.0));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(upperBoundOf(i), maxMicros);
+                }
+            }
+            return maxMicros;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public double getErrorRate() {
+            return count > 0 ? (double) errors / count : 0;
+        }
+
+        public long getMeanMicros() {
+            return count > 0 ? totalMicros / count : 0;
+        }
+
+        public long getMaxMicros() {
+            return maxMicros;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.meli.common.utils.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.meli.common.configuration.TaskMetricsConfig;
+import com.meli.common.utils.enums.LogLevel;
+import com.meli.common.utils.log.ServiceLogger;
+import com.meli.common.utils.tasks.Task;
+import com.meli.common.utils.tasks.TaskService;
+
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Métricas de latencia, ejecuciones y errores por {@link Task}.
+ *
+ * <p>
+ * Cada tarea tiene un {@link LatencyHistogram} ubicado en un arreglo por el índice denso de la
+ * tarea, por lo que registrar una ejecución no consulta mapas ni toma bloqueos. Las tareas cuyo
+ * índice supera {@code app.task-metrics.max-tasks} comparten el histograma {@code *}.
+ * </p>
+ *
+ * <p>
+ * Una tarea se mide con {@link #start(Task)} en un bloque try-with-resources, o con
+ * {@link #timed(Task)} y {@link #timedMany(Task)} como operadores de Reactor. Un scheduler registra
+ * periódicamente una línea por tarea con los percentiles y la tasa de errores del período.
+ * </p>
+ */
+@Component
+public class TaskMetrics {
+
+    private static final String OVERFLOW_TASK = "*";
+    private static final Timing NOOP = new Timing(null);
+
+    private final ServiceLogger<TaskMetrics> logger = new ServiceLogger<>(TaskMetrics.class);
+    private final Task task;
+    private final boolean enabled;
+    private final AtomicReferenceArray<TaskHistogram> histograms;
+    private final TaskHistogram overflow = new TaskHistogram(OVERFLOW_TASK);
+    private final Scheduler scheduler;
+    private final Disposable periodicSummary;
+
+    public TaskMetrics(TaskMetricsConfig config, TaskService taskService) {
+        this.task = taskService.getTask("TASK_METRICS");
+        this.enabled = config.isEnabled();
+        this.histograms = new AtomicReferenceArray<>(Math.max(1, config.getMaxTasks()));
+        if (enabled && config.getSummaryIntervalMillis() > 0) {
+            this.scheduler = Schedulers.newSingle("task-metrics", true);
+            this.periodicSummary = scheduler.schedulePeriodically(this::summarize,
+                    config.getSummaryIntervalMillis(), config.getSummaryIntervalMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+            this.periodicSummary = Disposables.disposed();
+        }
+    }
+
+    /**
+     * Inicia la medición de una ejecución, para usar en un bloque try-with-resources. La ejecución
+     * se registra al cerrar la medición; si terminó con error debe indicarse con
+     * {@link Timing#error()} antes.
+     *
+     * @param task La tarea ejecutada.
+     * @return La medición en curso.
+     */
+    public Timing start(Task task) {
+        return enabled ? new Timing(histogramOf(task)) : NOOP;
+    }
+
+    /**
+     * Registra una ejecución ya medida.
+     *
+     * @param task  La tarea ejecutada.
+     * @param nanos La duración en nanosegundos.
+     * @param error Si la ejecución terminó con error.
+     */
+    public void record(Task task, long nanos, boolean error) {
+        if (enabled) {
+            histogramOf(task).histogram.record(nanos, error);
+        }
+    }
+
+    /**
+     * Operador que mide un {@link Mono} desde la suscripción hasta su terminación, para usar con
+     * {@link Mono#transform(Function)}. Las cancelaciones no se registran.
+     *
+     * @param task La tarea ejecutada.
+     * @param <T>  El tipo del valor emitido.
+     * @return El operador.
+     */
+    public <T> Function<Mono<T>, Mono<T>> timed(Task task) {
+        if (!enabled) {
+            return Function.identity();
+        }
+        return mono -> Mono.defer(() -> {
+            long start = System.nanoTime();
+            return mono.doFinally(signal -> recordSignal(task, start, signal));
+        });
+    }
+
+    /**
+     * Operador que mide un {@link Flux} desde la suscripción hasta su terminación, para usar con
+     * {@link Flux#transform(Function)}. Las cancelaciones no se registran.
+     *
+     * @param task La tarea ejecutada.
+     * @param <T>  El tipo de los valores emitidos.
+     * @return El operador.
+     */
+    public <T> Function<Flux<T>, Flux<T>> timedMany(Task task) {
+        if (!enabled) {
+            return Function.identity();
+        }
+        return flux -> Flux.defer(() -> {
+            long start = System.nanoTime();
+            return flux.doFinally(signal -> recordSignal(task, start, signal));
+        });
+    }
+
+    /**
+     * Obtiene las métricas acumuladas de las tareas con ejecuciones registradas.
+     *
+     * @return Las métricas de cada tarea.
+     */
+    public List<TaskStatus> getTasks() {
+        List<TaskStatus> tasks = new ArrayList<>();
+        forEachHistogram(histogram -> {
+            LatencyHistogram.Snapshot snapshot = histogram.histogram.snapshot();
+            if (snapshot.getCount() > 0) {
+                tasks.add(TaskStatus.of(histogram.id, snapshot));
+            }
+        });
+        return tasks;
+    }
+
+    @PreDestroy
+    public void close() {
+        periodicSummary.dispose();
+        if (scheduler != null) {
+            scheduler.dispose();
+        }
+    }
+
+    private void recordSignal(Task task, long start, SignalType signal) {
+        if (signal != SignalType.CANCEL) {
+            histogramOf(task).histogram.record(System.nanoTime() - start, signal == SignalType.ON_ERROR);
+        }
+    }
+
+    private TaskHistogram histogramOf(Task task) {
+        int index = task.getIndex();
+        if (index >= histograms.length()) {
+            return overflow;
+        }
+        TaskHistogram histogram = histograms.get(index);
+        if (histogram == null) {
+            histograms.compareAndSet(index, null, new TaskHistogram(task.getId()));
+            histogram = histograms.get(index);
+        }
+        return histogram;
+    }
+
+    private void forEachHistogram(Consumer<TaskHistogram> action) {
+        for (int i = 0; i < histograms.length(); i++) {
+            TaskHistogram histogram = histograms.get(i);
+            if (histogram != null) {
+                action.accept(histogram);
+            }
+        }
+        action.accept(overflow);
+    }
+
+    /**
+     * Registra una línea por tarea con las ejecuciones desde el resumen anterior.
+     */
+    private void summarize() {
+        forEachHistogram(histogram -> {
+            LatencyHistogram.Snapshot current = histogram.histogram.snapshot();
+            LatencyHistogram.Snapshot period = current.since(histogram.lastSummary);
+            histogram.lastSummary = current;
+            if (period.getCount() > 0) {
+                logger.log("Métricas de tarea - " + histogram.id, task, LogLevel.INFO,
+                        TaskStatus.of(histogram.id, period).toMap(), null);
+            }
+        });
+    }
+
+    /**
+     * Medición en curso de una ejecución; se registra una única vez al cerrarla.
+     */
+    public static final class Timing implements AutoCloseable {
+
+        private final TaskHistogram histogram;
+        private final long start = System.nanoTime();
+        private boolean error;
+        private boolean closed;
+
+        private Timing(TaskHistogram histogram) {
+            this.histogram = histogram;
+        }
+
+        /**
+         * Marca la ejecución como terminada con error.
+         */
+        public void error() {
+            error = true;
+        }
+
+        @Override
+        public void close() {
+            if (histogram != null && !closed) {
+                closed = true;
+                histogram.histogram.record(System.nanoTime() - start, error);
+            }
+        }
+    }
+
+    /**
+     * Métricas de una tarea.
+     *
+     * @param task        El ID de la tarea; {@code *} agrupa las tareas por encima del límite.
+     * @param count       Las ejecuciones registradas.
+     * @param errors      Las ejecuciones terminadas con error.
+     * @param errorRate   La fracción de ejecuciones con error.
+     * @param meanMicros  La latencia media en microsegundos.
+     * @param p50Micros   El percentil 50 en microsegundos.
+     * @param p90Micros   El percentil 90 en microsegundos.
+     * @param p99Micros   El percentil 99 en microsegundos.
+     * @param maxMicros   La latencia máxima en microsegundos.
+     */
+    public record TaskStatus(String task, long count, long errors, double errorRate, long meanMicros,
+            long p50Micros, long p90Micros, long p99Micros, long maxMicros) {
+
+        static TaskStatus of(String task, LatencyHistogram.Snapshot snapshot) {
+            return new TaskStatus(task, snapshot.getCount(), snapshot.getErrors(), snapshot.getErrorRate(),
+                    snapshot.getMeanMicros(), snapshot.percentileMicros(50), snapshot.percentileMicros(90),
+                    snapshot.percentileMicros(99), snapshot.getMaxMicros());
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("task", task);
+            map.put("count", count);
+            map.put("errors", errors);
+            map.put("errorRate", errorRate);
+            map.put("meanMicros", meanMicros);
+            map.put("p50Micros", p50Micros);
+            map.put("p90Micros", p90Micros);
+            map.put("p99Micros", p99Micros);
+            map.put("maxMicros", maxMicros);
+            return map;
+        }
+    }
+
+    private static final class TaskHistogram {
+
+        private final String id;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        // Solo lo usa el scheduler de resúmenes
+        private LatencyHistogram.Snapshot lastSummary;
+
+        TaskHistogram(String id) {
+            this.id = id;
+        }
+    }
+}
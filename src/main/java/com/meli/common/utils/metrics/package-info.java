@@ -0,0 +1,6 @@
+/**
+ * Este paquete contiene la instrumentación por tarea: histogramas de latencia de memoria fija y
+ * contadores de ejecuciones y errores, indexados por el índice denso de
+ * {@link com.meli.common.utils.tasks.Task}.
+ */
+package com.meli.common.utils.metrics;
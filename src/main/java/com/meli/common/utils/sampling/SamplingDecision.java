@@ -0,0 +1,22 @@
+package com.meli.common.utils.sampling;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resultado de evaluar las reglas de muestreo para una solicitud.
+ */
+@Getter
+@AllArgsConstructor
+public class SamplingDecision {
+
+    /**
+     * Indica si la solicitud fue muestreada.
+     */
+    private final boolean sampled;
+
+    /**
+     * Umbral de latencia de la ruta, en milisegundos, para el modo de retención.
+     */
+    private final long latencyThresholdMillis;
+}
@@ -0,0 +1,130 @@
+package com.meli.common.utils.sampling;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.meli.common.configuration.SamplingConfig;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio singleton que decide, una única vez por solicitud, si esta se muestrea
+ * para trazabilidad y logs.
+ *
+ * <p>
+ * La decisión se guarda en el atributo {@link #SAMPLED_ATTRIBUTE} del exchange
+ * para que el filtro HTTP, el manejador de excepciones y el logger la respeten
+ * sin volver a evaluar las reglas.
+ * </p>
+ */
+@Service
+public class SamplingService {
+
+    public static final String SAMPLED_ATTRIBUTE = "TRACEABILITY_SAMPLED";
+    private static final String DECISION_ATTRIBUTE = "TRACEABILITY_SAMPLING_DECISION";
+
+    private final double defaultRate;
+    private final long defaultLatencyThresholdMillis;
+    private final boolean tailEnabled;
+    private final List<CompiledRule> rules;
+
+    public SamplingService(SamplingConfig samplingConfig) {
+        this.defaultRate = samplingConfig.getDefaultRate();
+        this.defaultLatencyThresholdMillis = samplingConfig.getDefaultLatencyThresholdMillis();
+        this.tailEnabled = samplingConfig.isTailEnabled();
+        this.rules = samplingConfig.getRules().stream()
+                .map(rule -> new CompiledRule(
+                        PathPatternParser.defaultInstance.parse(rule.getPattern()),
+                        rule.getMethods().stream().map(String::toUpperCase).map(HttpMethod::valueOf)
+                                .collect(Collectors.toUnmodifiableSet()),
+                        rule.getRate(),
+                        rule.getLatencyThresholdMillis() != null ? rule.getLatencyThresholdMillis()
+                                : defaultLatencyThresholdMillis))
+                .toList();
+    }
+
+    /**
+     * Decide si la solicitud se muestrea y guarda la decisión en el exchange.
+     *
+     * @param exchange El exchange de la solicitud.
+     * @return La decisión de muestreo de la solicitud.
+     */
+    public SamplingDecision decide(ServerWebExchange exchange) {
+        SamplingDecision previous = exchange.getAttribute(DECISION_ATTRIBUTE);
+        if (previous != null) {
+            return previous;
+        }
+        CompiledRule rule = match(exchange.getRequest());
+        SamplingDecision decision = rule != null
+                ? new SamplingDecision(sample(rule.rate()), rule.latencyThresholdMillis())
+                : new SamplingDecision(sample(defaultRate), defaultLatencyThresholdMillis);
+        exchange.getAttributes().put(DECISION_ATTRIBUTE, decision);
+        exchange.getAttributes().put(SAMPLED_ATTRIBUTE, decision.isSampled());
+        return decision;
+    }
+
+    /**
+     * Indica si el modo de retención de errores y solicitudes lentas está activo.
+     *
+     * @return {@code true} si la trazabilidad se retiene hasta conocer el resultado.
+     */
+    public boolean isTailEnabled() {
+        return tailEnabled;
+    }
+
+    /**
+     * Indica si una solicitud fue muestreada. Las solicitudes sin decisión se
+     * consideran muestreadas.
+     *
+     * @param exchange El exchange de la solicitud, puede ser nulo.
+     * @return {@code false} solo si la solicitud fue descartada por el muestreo.
+     */
+    public static boolean isSampled(ServerWebExchange exchange) {
+        if (exchange == null) {
+            return true;
+        }
+        Boolean sampled = exchange.getAttribute(SAMPLED_ATTRIBUTE);
+        return sampled == null || sampled;
+    }
+
+    /**
+     * Marca una solicitud como muestreada, por ejemplo cuando el modo de retención
+     * decide conservarla por haber fallado o superado su umbral de latencia.
+     *
+     * @param exchange El exchange de la solicitud.
+     */
+    public static void markSampled(ServerWebExchange exchange) {
+        exchange.getAttributes().put(SAMPLED_ATTRIBUTE, Boolean.TRUE);
+    }
+
+    private CompiledRule match(ServerHttpRequest request) {
+        for (CompiledRule rule : rules) {
+            if ((rule.methods().isEmpty() || rule.methods().contains(request.getMethod()))
+                    && rule.pattern().matches(request.getPath().pathWithinApplication())) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private boolean sample(double rate) {
+        if (rate >= 1.0) {
+            return true;
+        }
+        if (rate <= 0.0) {
+            return false;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private record CompiledRule(PathPattern pattern, Set<HttpMethod> methods, double rate,
+            long latencyThresholdMillis) {
+    }
+}
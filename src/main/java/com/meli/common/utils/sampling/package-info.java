@@ -0,0 +1,4 @@
+/**
+ * Este paquete contiene utilidades para decidir qué solicitudes generan trazabilidad y logs.
+ */
+package com.meli.common.utils.sampling;
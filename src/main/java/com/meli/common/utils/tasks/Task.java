@@ -2,22 +2,87 @@ package com.meli.common.utils.tasks;
 
 import lombok.Builder;
 import lombok.Getter;
-import lombok.Setter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.data.annotation.PersistenceCreator;
+import org.springframework.data.annotation.Transient;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 /**
  * Clase que representa una tarea específica realizada en la aplicación.
+ *
+ * <p>
+ * La instancia registrada en {@link TaskService} se comparte entre todas las solicitudes y no
+ * debe modificarse. El origen de una invocación concreta se indica con
+ * {@link #withOrigin(Origin)}, que devuelve una copia.
+ * </p>
  */
 @Getter
-@Setter
 public class Task {
 
+    private static final Map<String, Integer> INDEXES = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
     private final String id;
     private final String description;
     private Origin origin;
 
+    /**
+     * Índice denso del identificador de la tarea, compartido por todas las tareas con el
+     * mismo identificador; permite consultar tablas por tarea con un acceso a arreglo.
+     */
+    @Transient
+    @JsonIgnore
+    private final int index;
+
     public Task(String id, String description) {
+        this(id, description, null);
+    }
+
+    @PersistenceCreator
+    public Task(String id, String description, Origin origin) {
         this.id = id;
         this.description = description;
+        this.origin = origin;
+        this.index = indexOf(id);
+    }
+
+    /**
+     * Obtiene una copia de la tarea con el origen indicado.
+     *
+     * @param origin El origen de la invocación.
+     * @return Una nueva tarea con el mismo ID y descripción.
+     */
+    public Task withOrigin(Origin origin) {
+        return new Task(id, description, origin);
+    }
+
+    /**
+     * Cambia el origen de la tarea.
+     *
+     * @param origin El origen de la invocación.
+     * @deprecated Modificar la tarea compartida de {@link TaskService} cambia el origen de todas las
+     *             solicitudes concurrentes; usar {@link #withOrigin(Origin)}. Se eliminará en la
+     *             próxima versión.
+     */
+    @Deprecated
+    public void setOrigin(Origin origin) {
+        this.origin = origin;
+    }
+
+    /**
+     * Obtiene el índice denso asignado a un identificador de tarea, asignándolo si es nuevo.
+     *
+     * @param id El identificador de la tarea.
+     * @return El índice, a partir de cero.
+     */
+    public static int indexOf(String id) {
+        Integer index = INDEXES.get(id);
+        return index != null ? index : INDEXES.computeIfAbsent(id, key -> NEXT_INDEX.getAndIncrement());
     }
 
     /**
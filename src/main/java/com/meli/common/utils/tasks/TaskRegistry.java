@@ -0,0 +1,77 @@
+package com.meli.common.utils.tasks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Registro inmutable de tareas indexado por identificador.
+ *
+ * <p>
+ * Las consultas leen una instantánea inmutable publicada en un campo volátil, con un acceso a
+ * tabla hash y sin sincronización. El registro de una tarea copia la instantánea y publica la
+ * nueva; se sincroniza para que registros concurrentes no se pierdan. Si ya existe una tarea con
+ * el mismo identificador se conserva la primera registrada.
+ * </p>
+ *
+ * @param <T> El tipo de tarea registrada.
+ */
+final class TaskRegistry<T> {
+
+    private final Function<T, String> idOf;
+    private final String kind;
+    private volatile Map<String, T> tasks = Collections.emptyMap();
+
+    /**
+     * @param idOf La función que obtiene el identificador de una tarea.
+     * @param kind El nombre del tipo de tarea, para los mensajes de error.
+     */
+    TaskRegistry(Function<T, String> idOf, String kind) {
+        this.idOf = idOf;
+        this.kind = kind;
+    }
+
+    /**
+     * Registra una tarea.
+     *
+     * @param task La tarea a registrar.
+     * @return {@code false} si ya existía una tarea con el mismo identificador.
+     */
+    synchronized boolean register(T task) {
+        String id = idOf.apply(task);
+        if (tasks.containsKey(id)) {
+            return false;
+        }
+        Map<String, T> updated = new LinkedHashMap<>(tasks);
+        updated.put(id, task);
+        tasks = Collections.unmodifiableMap(updated);
+        return true;
+    }
+
+    Optional<T> find(String id) {
+        return Optional.ofNullable(tasks.get(id));
+    }
+
+    /**
+     * Obtiene una tarea registrada.
+     *
+     * @param id El identificador de la tarea.
+     * @return La tarea.
+     * @throws IllegalArgumentException Si no hay una tarea registrada con el identificador.
+     */
+    T require(String id) {
+        T task = tasks.get(id);
+        if (task == null) {
+            throw new IllegalArgumentException(kind + " no registrada: " + id);
+        }
+        return task;
+    }
+
+    List<T> all() {
+        return new ArrayList<>(tasks.values());
+    }
+}
@@ -4,7 +4,6 @@ import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,30 +13,32 @@ import java.util.Optional;
 @Service
 public class TaskService {
 
-    private final List<Task> tasks = new ArrayList<>();
+    private final TaskRegistry<Task> tasks = new TaskRegistry<>(Task::getId, "Tarea");
 
     @PostConstruct
     public void initializeTasks() {
         // Aquí se pueden inicializar las tareas predeterminadas
-        tasks.add(new Task("CREATE_SERVICE_ERROR", "Create Service Error"));
-        tasks.add(new Task("CREATE_TRACEABILITY", "Create Traceability"));
-        tasks.add(new Task("EXCEPTION_MANAGER", "Exception Manager"));
-        tasks.add(new Task("GET_MESSAGE", "Get mensaje"));
-        tasks.add(new Task("INIT_MICROSERVICE", "Init Service"));
-        tasks.add(new Task("HTTP_REQUEST_FILTER", "HTTP Request Filter"));
-        tasks.add(new Task("HTTP_RESPONSE_FILTER", "HTTP Response Filter"));
-        tasks.add(new Task("TEST_TASK", "Test Task"));
-        tasks.add(new Task("MESSAGE_CACHE_UPDATED", "Message Cache Updated Task"));
-        tasks.add(new Task("PARAM_CACHE_UPDATED", "Param Cache Updated Task"));
+        tasks.register(new Task("CREATE_SERVICE_ERROR", "Create Service Error"));
+        tasks.register(new Task("CREATE_TRACEABILITY", "Create Traceability"));
+        tasks.register(new Task("EXCEPTION_MANAGER", "Exception Manager"));
+        tasks.register(new Task("GET_MESSAGE", "Get mensaje"));
+        tasks.register(new Task("INIT_MICROSERVICE", "Init Service"));
+        tasks.register(new Task("HTTP_REQUEST_FILTER", "HTTP Request Filter"));
+        tasks.register(new Task("HTTP_RESPONSE_FILTER", "HTTP Response Filter"));
+        tasks.register(new Task("TEST_TASK", "Test Task"));
+        tasks.register(new Task("MESSAGE_CACHE_UPDATED", "Message Cache Updated Task"));
+        tasks.register(new Task("PARAM_CACHE_UPDATED", "Param Cache Updated Task"));
+        tasks.register(new Task("TASK_METRICS", "Task Metrics Summary"));
     }
 
     /**
-     * Añade una nueva tarea a la lista.
+     * Añade una nueva tarea al registro. Si ya existe una tarea con el
+     * mismo ID se conserva la registrada primero.
      *
      * @param task La tarea a añadir.
      */
     public void addTask(Task task) {
-        tasks.add(task);
+        tasks.register(task);
     }
 
     /**
@@ -48,9 +49,19 @@ public class TaskService {
      *         {@link Optional#empty()} si no.
      */
     public Optional<Task> getTaskById(String id) {
-        return tasks.stream()
-                .filter(task -> task.getId().equals(id))
-                .findFirst();
+        return tasks.find(id);
+    }
+
+    /**
+     * Obtiene una tarea registrada. Pensado para resolver una única vez, al
+     * construir un componente, las tareas que este usa en cada solicitud.
+     *
+     * @param id El ID de la tarea.
+     * @return La instancia de {@link Task}.
+     * @throws IllegalArgumentException Si no hay una tarea registrada con el ID.
+     */
+    public Task getTask(String id) {
+        return tasks.require(id);
     }
 
     /**
@@ -59,6 +70,6 @@ public class TaskService {
      * @return Lista de todas las tareas.
      */
     public List<Task> getAllTasks() {
-        return new ArrayList<>(tasks);
+        return tasks.all();
     }
 }
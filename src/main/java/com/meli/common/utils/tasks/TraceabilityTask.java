@@ -1,7 +1,6 @@
 package com.meli.common.utils.tasks;
 
 import lombok.Getter;
-import lombok.Setter;
 
 /**
  * Clase que representa una tarea específica para la trazabilidad de solicitudes
@@ -15,7 +14,6 @@ import lombok.Setter;
  * </p>
  */
 @Getter
-@Setter
 public class TraceabilityTask {
 
     private final String id;
@@ -26,6 +24,19 @@ public class TraceabilityTask {
         this.description = description;
     }
 
+    /**
+     * Cambia la descripción de la tarea.
+     *
+     * @param description La nueva descripción.
+     * @deprecated La instancia registrada en {@link TraceabilityTaskService} se comparte entre todas
+     *             las solicitudes y no debe modificarse; registrar otra tarea con la descripción
+     *             deseada. Se eliminará en la próxima versión.
+     */
+    @Deprecated
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
     /**
      * Representación en cadena de la tarea.
      *
@@ -3,7 +3,6 @@ package com.meli.common.utils.tasks;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,23 +12,26 @@ import java.util.Optional;
 @Service
 public class TraceabilityTaskService {
 
-    private final List<TraceabilityTask> tasks = new ArrayList<>();
+    private final TaskRegistry<TraceabilityTask> tasks = new TaskRegistry<>(TraceabilityTask::getId,
+            "Tarea de trazabilidad");
 
     @PostConstruct
     public void initializeTasks() {
         // Aquí se pueden inicializar las tareas predeterminadas
-        tasks.add(new TraceabilityTask("START_REQUEST", "Marca el inicio de una solicitud"));
-        tasks.add(new TraceabilityTask("REQUEST_ERROR", "Indica un error durante el procesamiento de la solicitud"));
-        tasks.add(new TraceabilityTask("END_REQUEST", "Marca la finalización de una solicitud"));
+        tasks.register(new TraceabilityTask("START_REQUEST", "Marca el inicio de una solicitud"));
+        tasks.register(new TraceabilityTask("REQUEST_ERROR", "Indica un error durante el procesamiento de la solicitud"));
+        tasks.register(new TraceabilityTask("END_REQUEST", "Marca la finalización de una solicitud"));
+        tasks.register(new TraceabilityTask("TRANSACTION", "Registro consolidado de los eventos de una solicitud"));
     }
 
     /**
-     * Añade una nueva tarea de trazabilidad a la lista.
+     * Añade una nueva tarea de trazabilidad al registro. Si ya existe una tarea con el
+     * mismo ID se conserva la registrada primero.
      *
      * @param task La tarea a añadir.
      */
     public void addTask(TraceabilityTask task) {
-        tasks.add(task);
+        tasks.register(task);
     }
 
     /**
@@ -40,9 +42,19 @@ public class TraceabilityTaskService {
      *         {@link Optional#empty()} si no.
      */
     public Optional<TraceabilityTask> getTaskById(String id) {
-        return tasks.stream()
-                .filter(task -> task.getId().equals(id))
-                .findFirst();
+        return tasks.find(id);
+    }
+
+    /**
+     * Obtiene una tarea registrada. Pensado para resolver una única vez, al
+     * construir un componente, las tareas que este usa en cada solicitud.
+     *
+     * @param id El ID de la tarea.
+     * @return La instancia de {@link TraceabilityTask}.
+     * @throws IllegalArgumentException Si no hay una tarea registrada con el ID.
+     */
+    public TraceabilityTask getTask(String id) {
+        return tasks.require(id);
     }
 
     /**
@@ -51,6 +63,6 @@ public class TraceabilityTaskService {
      * @return Lista de todas las tareas de trazabilidad.
      */
     public List<TraceabilityTask> getAllTasks() {
-        return new ArrayList<>(tasks);
+        return tasks.all();
     }
 }
@@ -1,6 +1,7 @@
 package com.meli.core;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.meli.core.entity.Message;
 import reactor.core.publisher.Mono;
@@ -25,6 +26,14 @@ public interface MessageUseCase {
      */
     List<Message> getMessageList();
 
+    /**
+     * Obtiene un mensaje de la caché por su identificador, sin consultar el proveedor.
+     *
+     * @param messageId El identificador del mensaje.
+     * @return El mensaje, o {@link Optional#empty()} si no está en la caché.
+     */
+    Optional<Message> getCachedMessage(String messageId);
+
     /**
      * Carga una lista de mensajes de manera reactiva desde el proveedor de mensajes
      * y los almacena en la lista de mensajes.
@@ -32,4 +41,12 @@ public interface MessageUseCase {
      * @return Un Mono que indica la finalización de la operación.
      */
     Mono<Void> loadMessages();
+
+    /**
+     * Obtiene la versión de la lista de mensajes, que cambia cada vez que se recarga.
+     * Permite invalidar lo derivado de los mensajes sin compararlos.
+     *
+     * @return La versión actual de la lista de mensajes.
+     */
+    long getVersion();
 }
@@ -6,6 +6,7 @@ import lombok.ToString;
 
 import org.springframework.http.HttpMethod;
 
+import com.meli.common.utils.fingerprint.ErrorFingerprint;
 import com.meli.common.utils.tasks.Task;
 
 /**
@@ -47,6 +48,7 @@ public class ServiceError {
     private String errorMethod;
     private String message;
     private String stackTrace;
+    private ErrorFingerprint fingerprint;
     private Object request;
     private Object response;
 }
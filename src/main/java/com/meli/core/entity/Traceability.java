@@ -6,6 +6,8 @@ import lombok.ToString;
 
 import org.springframework.http.HttpMethod;
 
+import java.util.List;
+
 import com.meli.common.utils.enums.TraceabilityStatus;
 import com.meli.common.utils.tasks.TraceabilityTask;
 
@@ -17,6 +19,11 @@ import com.meli.common.utils.tasks.TraceabilityTask;
  * de transacción, el estado de la trazabilidad, el origen, el método HTTP utilizado, la tarea relacionada,
  * los datos de solicitud, los datos de respuesta y la duración de la operación en milisegundos.</p>
  *
+ * <p>Cuando el registro consolida una transacción HTTP, {@code events} contiene los eventos de
+ * trazabilidad ocurridos durante la misma con su instante relativo al inicio, y
+ * {@code droppedEvents} la cantidad de eventos descartados por superar el límite por solicitud; es
+ * nulo si la transacción está completa.</p>
+ *
  * <p>La trazabilidad es esencial para el seguimiento y análisis de las operaciones en la aplicación, lo que
  * permite identificar problemas, evaluar el rendimiento y mejorar la eficiencia.</p>
  *
@@ -35,4 +42,6 @@ public class Traceability {
     private Object request;
     private Object response;
     private Long durationMillis;
+    private List<TraceabilityEvent> events;
+    private Integer droppedEvents;
 }
@@ -0,0 +1,31 @@
+package com.meli.core.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import com.meli.common.utils.enums.TraceabilityStatus;
+import com.meli.common.utils.tasks.TraceabilityTask;
+
+/**
+ * Clase que representa un evento dentro del registro consolidado de trazabilidad
+ * de una transacción.
+ *
+ * <p>Cada evento corresponde a una tarea de trazabilidad ocurrida durante la
+ * transacción (inicio, error, fin o eventos propios de la aplicación) y registra
+ * el instante en que ocurrió, en milisegundos relativos al inicio de la
+ * transacción.</p>
+ *
+ * @see Traceability
+ */
+@Getter
+@Builder
+@ToString
+public class TraceabilityEvent {
+    private TraceabilityTask task;
+    private TraceabilityStatus status;
+    private long offsetMillis;
+    private Object request;
+    private Object response;
+    private Long durationMillis;
+}
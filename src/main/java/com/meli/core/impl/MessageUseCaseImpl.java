@@ -8,8 +8,11 @@ import com.meli.provider.MessageProvider;
 
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Implementación de la interfaz {@link MessageUseCase} que proporciona la lógica
@@ -17,11 +20,16 @@ import java.util.concurrent.CopyOnWriteArrayList;
  *
  * <p>Esta clase se encarga de interactuar con un proveedor de mensajes para obtener
  * y gestionar mensajes dentro de la aplicación.</p>
+ *
+ * <p>Los mensajes en caché se guardan en una instantánea inmutable indexada por identificador,
+ * publicada en un único campo volátil junto con su versión. Una recarga construye la instantánea
+ * completa y la reemplaza de una vez, de modo que las consultas nunca ven el catálogo vacío ni a
+ * medio cargar.</p>
  */
 @Service
 public class MessageUseCaseImpl implements MessageUseCase {
 
-    private List<Message> messageList = new CopyOnWriteArrayList<>();
+    private volatile MessageSnapshot snapshot = new MessageSnapshot(List.of(), Map.of(), 0);
 
     private final MessageProvider messageProvider;
 
@@ -45,10 +53,7 @@ public class MessageUseCaseImpl implements MessageUseCase {
     public Mono<Void> loadMessages() {
         return this.messageProvider.getMessages()
                    .collectList()
-                   .doOnNext(messages -> {
-                        this.messageList.clear();
-                        this.messageList.addAll(messages);
-                    })
+                   .doOnNext(this::publish)
                    .then();
     }
 
@@ -59,6 +64,34 @@ public class MessageUseCaseImpl implements MessageUseCase {
 
     @Override
     public List<Message> getMessageList() {
-        return this.messageList;
+        return this.snapshot.messages();
+    }
+
+    @Override
+    public Optional<Message> getCachedMessage(String messageId) {
+        return Optional.ofNullable(this.snapshot.byId().get(messageId));
+    }
+
+    @Override
+    public long getVersion() {
+        return this.snapshot.version();
+    }
+
+    /**
+     * Reemplaza la instantánea de mensajes. Ante identificadores repetidos se conserva
+     * el primer mensaje, como en la búsqueda secuencial anterior.
+     */
+    private synchronized void publish(List<Message> messages) {
+        Map<String, Message> byId = new HashMap<>(messages.size() * 2);
+        for (Message message : messages) {
+            if (message.getMessageId() != null) {
+                byId.putIfAbsent(message.getMessageId(), message);
+            }
+        }
+        this.snapshot = new MessageSnapshot(List.copyOf(messages), Collections.unmodifiableMap(byId),
+                this.snapshot.version() + 1);
+    }
+
+    private record MessageSnapshot(List<Message> messages, Map<String, Message> byId, long version) {
     }
 }
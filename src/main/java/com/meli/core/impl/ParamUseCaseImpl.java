@@ -2,13 +2,20 @@ package com.meli.core.impl;
 
 import org.springframework.stereotype.Service;
 
+import com.meli.common.utils.enums.LogLevel;
+import com.meli.common.utils.log.LogLevels;
+import com.meli.common.utils.log.ServiceLogger;
+import com.meli.common.utils.log.TaskLogPolicy;
+import com.meli.common.utils.tasks.TaskService;
 import com.meli.core.ParamUseCase;
 import com.meli.core.entity.Param;
 import com.meli.provider.ParamProvider;
 
 import reactor.core.publisher.Mono;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -21,9 +28,18 @@ import java.util.concurrent.CopyOnWriteArrayList;
 @Service
 public class ParamUseCaseImpl implements ParamUseCase {
 
+    private static final String LOG_LEVEL_PARAM = "LOG_LEVEL";
+    private static final String LOG_TASK_OVERRIDES_PARAM = "LOG_TASK_OVERRIDES";
+    private static final String PARAM_CACHE_UPDATED = "PARAM_CACHE_UPDATED";
+
+    private final ServiceLogger<ParamUseCaseImpl> logger = new ServiceLogger<>(ParamUseCaseImpl.class);
+
     private List<Param<?>> paramList = new CopyOnWriteArrayList<>();
 
     private final ParamProvider paramProvider;
+    private final TaskService taskService;
+    // Si el nivel vigente proviene del parámetro LOG_LEVEL
+    private volatile boolean paramLogLevelApplied;
 
     /**
      * Constructor de la clase que recibe una instancia de {@link ParamProvider}
@@ -31,9 +47,11 @@ public class ParamUseCaseImpl implements ParamUseCase {
      *
      * @param paramProvider El proveedor de parámetros utilizado para interactuar con
      *                      el almacenamiento de parámetros.
+     * @param taskService   El servicio de tareas, para registrar los parámetros no válidos.
      */
-    public ParamUseCaseImpl(ParamProvider paramProvider) {
+    public ParamUseCaseImpl(ParamProvider paramProvider, TaskService taskService) {
         this.paramProvider = paramProvider;
+        this.taskService = taskService;
         this.loadParams().subscribe();
     }
 
@@ -48,6 +66,8 @@ public class ParamUseCaseImpl implements ParamUseCase {
                    .doOnNext(params -> {
                         this.paramList.clear();
                         this.paramList.addAll(params);
+                        applyLogLevel(params);
+                        applyTaskLogOverrides(params);
                     })
                    .then();
     }
@@ -61,4 +81,64 @@ public class ParamUseCaseImpl implements ParamUseCase {
     public List<Param<?>> getParamList() {
         return this.paramList;
     }
+
+    /**
+     * Aplica el parámetro {@code LOG_LEVEL}, si está activo, como nivel de log vigente. Si el
+     * parámetro no existe o está inactivo y el nivel vigente provenía de él, se vuelve al nivel
+     * configurado con {@code app.loglevel}. Un valor no válido se registra y conserva el nivel actual.
+     */
+    private void applyLogLevel(List<Param<?>> params) {
+        params.stream()
+                .filter(param -> LOG_LEVEL_PARAM.equals(param.getParamId()) && !Boolean.FALSE.equals(param.getStatus())
+                        && param.getValues() != null)
+                .findFirst()
+                .ifPresentOrElse(param -> {
+                    try {
+                        LogLevels.setLevel(String.valueOf(param.getValues()));
+                        paramLogLevelApplied = true;
+                    } catch (IllegalArgumentException e) {
+                        logRejected(LOG_LEVEL_PARAM, param.getValues());
+                    }
+                }, () -> {
+                    if (paramLogLevelApplied) {
+                        paramLogLevelApplied = false;
+                        LogLevels.restoreConfiguredLevel();
+                    }
+                });
+    }
+
+    /**
+     * Aplica el parámetro {@code LOG_TASK_OVERRIDES}, cuyos valores tienen la forma
+     * {@code { "HTTP_REQUEST_FILTER": { "level": "WARN", "sampleRate": 0.01 } }}. Si el
+     * parámetro no existe o está inactivo se eliminan las excepciones que provenían de él;
+     * las entradas no válidas se ignoran.
+     */
+    private void applyTaskLogOverrides(List<Param<?>> params) {
+        Map<String, TaskLogPolicy.TaskOverride> overrides = new HashMap<>();
+        params.stream()
+                .filter(param -> LOG_TASK_OVERRIDES_PARAM.equals(param.getParamId())
+                        && !Boolean.FALSE.equals(param.getStatus()) && param.getValues() instanceof Map)
+                .findFirst()
+                .ifPresent(param -> ((Map<?, ?>) param.getValues()).forEach((taskId, value) -> {
+                    if (value instanceof Map<?, ?> entry) {
+                        try {
+                            Object level = entry.get("level");
+                            Object sampleRate = entry.get("sampleRate");
+                            overrides.put(String.valueOf(taskId), new TaskLogPolicy.TaskOverride(
+                                    level != null ? LogLevel.valueOf(level.toString().toUpperCase()) : null,
+                                    sampleRate instanceof Number rate ? rate.doubleValue() : null));
+                        } catch (IllegalArgumentException e) {
+                            // Se ignora la entrada con un nivel no válido
+                            logRejected(LOG_TASK_OVERRIDES_PARAM + "." + taskId, entry.get("level"));
+                        }
+                    }
+                }));
+        TaskLogPolicy.setParamOverrides(overrides);
+    }
+
+    private void logRejected(String paramId, Object value) {
+        taskService.getTaskById(PARAM_CACHE_UPDATED)
+                .ifPresent(task -> logger.log("Nivel de log no válido en el parámetro " + paramId, task,
+                        LogLevel.WARN, Map.of("param", paramId, "value", String.valueOf(value)), null));
+    }
 }
@@ -3,7 +3,8 @@ package com.meli.provider.impl;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
-import com.meli.common.exception.ServiceException;
+import com.meli.common.exception.BusinessException;
+import com.meli.common.utils.metrics.TaskMetrics;
 import com.meli.common.utils.tasks.Task;
 import com.meli.common.utils.tasks.TaskService;
 import com.meli.core.entity.Message;
@@ -34,13 +35,23 @@ public class MessageProviderImpl implements MessageProvider {
 
         private final MessageRepository messageRepository;
         private final MessageMapper messageMapper;
-        private final TaskService taskService;
+        private final Task getMessageTask;
+        private final BusinessException messageNotFound;
+        private final TaskMetrics taskMetrics;
 
         public MessageProviderImpl(MessageRepository messageRepository, MessageMapper messageMapper,
-                        TaskService taskService) {
+                        TaskService taskService, TaskMetrics taskMetrics) {
                 this.messageRepository = messageRepository;
                 this.messageMapper = messageMapper;
-                this.taskService = taskService;
+                // El origen es propio de esta tarea: se fija en una copia, sin modificar la tarea compartida
+                this.getMessageTask = taskService.getTask("GET_MESSAGE").withOrigin(Task.Origin.builder()
+                                .originClass("MessageUseCaseImpl")
+                                .originMethod("getMessage(String id)")
+                                .build());
+                // Error esperado: una única instancia sin traza, compartida por todas las solicitudes
+                this.messageNotFound = BusinessException.constant("Mensaje no encontrado", HttpStatus.NOT_FOUND,
+                                getMessageTask, NoSuchElementException.class);
+                this.taskMetrics = taskMetrics;
         }
 
         @Override
@@ -62,16 +73,10 @@ public class MessageProviderImpl implements MessageProvider {
         public Mono<Message> getMessage(String id) {
                 Span span = ElasticApm.currentSpan().startSpan("db", "mongodb", "query");
                 span.setName("MongoDB Find Message by ID");
-                Task task = taskService.getTaskById("GET_MESSAGE").get();
-                task.setOrigin(Task.Origin.builder()
-                                .originClass("MessageUseCaseImpl")
-                                .originMethod("getMessage(String id)")
-                                .build());
                 return this.messageRepository.findByMessageId(id)
-                                .switchIfEmpty(Mono.error(
-                                                new ServiceException("Mensaje no encontrado", HttpStatus.NOT_FOUND, null, task,
-                                                                NoSuchElementException.class, null)))
+                                .switchIfEmpty(Mono.error(messageNotFound))
                                 .flatMap(messageMapper::toEntity)
+                                .transform(taskMetrics.timed(getMessageTask))
                                 .doOnError(Exception.class, span::captureException)
                                 .doFinally(signalType -> span.end());
         }
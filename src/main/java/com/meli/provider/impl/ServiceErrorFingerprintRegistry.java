@@ -0,0 +1,177 @@
+package com.meli.provider.impl;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.meli.common.configuration.ServiceErrorFingerprintConfig;
+import com.meli.common.utils.fingerprint.ErrorFingerprint;
+import com.meli.provider.model.ServiceErrorFingerprintModel;
+import com.meli.provider.sink.TraceabilitySink;
+
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Registro en memoria de las huellas de los errores de servicio.
+ *
+ * <p>
+ * La primera ocurrencia de una huella construye su traza completa; las siguientes solo incrementan
+ * un contador. Periódicamente los contadores acumulados se entregan al {@link TraceabilitySink}
+ * como un {@link ServiceErrorFingerprintModel} por huella, que el destino guarda con un upsert: la
+ * traza se inserta una sola vez y el resto de los campos se actualizan. Las huellas sin ocurrencias
+ * recientes se descartan de memoria.
+ * </p>
+ */
+@Component
+public class ServiceErrorFingerprintRegistry {
+
+    private final TraceabilitySink traceabilitySink;
+    private final boolean enabled;
+    private final int maxFingerprints;
+    private final long idleEvictionMillis;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Scheduler scheduler;
+    private final Disposable periodicFlush;
+
+    public ServiceErrorFingerprintRegistry(TraceabilitySink traceabilitySink, ServiceErrorFingerprintConfig config) {
+        this.traceabilitySink = traceabilitySink;
+        this.enabled = config.isEnabled();
+        this.maxFingerprints = config.getMaxFingerprints();
+        this.idleEvictionMillis = config.getIdleEvictionMillis();
+        if (enabled) {
+            this.scheduler = Schedulers.newSingle("service-error-fingerprint", true);
+            this.periodicFlush = scheduler.schedulePeriodically(this::flush, config.getFlushIntervalMillis(),
+                    config.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+            this.periodicFlush = Disposables.disposed();
+        }
+    }
+
+    /**
+     * Registra una ocurrencia de un error.
+     *
+     * @param fingerprint La huella del error.
+     * @return {@code false} si la huella no se registró (agrupación inactiva o límite de huellas
+     *         alcanzado) y el registro del error debe guardar su traza completa.
+     */
+    public boolean record(ErrorFingerprint fingerprint) {
+        if (!enabled) {
+            return false;
+        }
+        while (true) {
+            Entry entry = entries.get(fingerprint.getId());
+            if (entry == null) {
+                if (entries.size() >= maxFingerprints) {
+                    return false;
+                }
+                entry = entries.computeIfAbsent(fingerprint.getId(), id -> new Entry(fingerprint));
+            }
+            entry.count.increment();
+            if (!entry.evicting) {
+                entry.lastSeenMillis = System.currentTimeMillis();
+                return true;
+            }
+            // La entrada se está descartando por inactividad: se deshace el incremento y se
+            // reintenta sobre la entrada que quede registrada
+            entry.count.decrement();
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Entrega los contadores acumulados al destino. El destino se cierra después del registro y
+     * espera entonces los upserts en vuelo, incluido el de esta entrega.
+     */
+    @PreDestroy
+    public void close() {
+        periodicFlush.dispose();
+        if (scheduler != null) {
+            flush();
+            scheduler.dispose();
+        }
+    }
+
+    private void flush() {
+        long now = System.currentTimeMillis();
+        List<ServiceErrorFingerprintModel> models = new ArrayList<>();
+        entries.forEach((id, entry) -> {
+            long count = entry.count.sumThenReset();
+            if (count > 0) {
+                models.add(ServiceErrorFingerprintModel.builder()
+                        .id(id)
+                        .errorClass(entry.errorClass)
+                        .messageTemplate(entry.messageTemplate)
+                        .stackTrace(entry.stackTrace)
+                        .count(count)
+                        .firstSeen(entry.firstSeen)
+                        .lastSeen(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.lastSeenMillis),
+                                ZoneId.systemDefault()))
+                        .build());
+            } else if (now - entry.lastSeenMillis > idleEvictionMillis) {
+                entries.computeIfPresent(id, (key, current) -> current == entry ? entry.evictIfUnused() : current);
+            }
+        });
+        if (models.isEmpty()) {
+            return;
+        }
+        try {
+            traceabilitySink.writeServiceErrorFingerprints(models);
+        } catch (RuntimeException e) {
+            // El destino no aceptó la entrega: los contadores vuelven a sus huellas para la siguiente
+            for (ServiceErrorFingerprintModel model : models) {
+                Entry entry = entries.get(model.getId());
+                if (entry != null) {
+                    entry.count.add(model.getCount());
+                }
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final String errorClass;
+        private final String messageTemplate;
+        private final String stackTrace;
+        private final LocalDateTime firstSeen = LocalDateTime.now();
+        private final LongAdder count = new LongAdder();
+        private volatile long lastSeenMillis = System.currentTimeMillis();
+        // Ver evictIfUnused: una vez descartada la entrada queda marcada para siempre
+        private volatile boolean evicting;
+
+        Entry(ErrorFingerprint fingerprint) {
+            this.errorClass = fingerprint.getErrorClass();
+            this.messageTemplate = fingerprint.getMessageTemplate();
+            this.stackTrace = fingerprint.getStackTrace();
+        }
+
+        /**
+         * Descarta la entrada si no tiene ocurrencias sin entregar. La marca se escribe antes de
+         * leer el contador y {@link ServiceErrorFingerprintRegistry#record(ErrorFingerprint)} la
+         * lee después de incrementarlo, por lo que un incremento concurrente impide el descarte o
+         * ve la marca y se reintenta.
+         *
+         * @return {@code null} si la entrada se descarta, o la propia entrada si se conserva.
+         */
+        Entry evictIfUnused() {
+            evicting = true;
+            if (count.sum() == 0) {
+                return null;
+            }
+            evicting = false;
+            return this;
+        }
+    }
+}
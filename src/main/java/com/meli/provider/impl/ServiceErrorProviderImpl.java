@@ -1,24 +1,33 @@
 package com.meli.provider.impl;
 
+import java.time.LocalDateTime;
+
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Component;
+
+import com.meli.common.utils.fingerprint.ErrorFingerprint;
 import com.meli.core.entity.ServiceError;
 import com.meli.provider.ServiceErrorProvider;
 import com.meli.provider.mapper.ServiceErrorMapper;
-import com.meli.provider.repository.ServiceErrorRepository;
-
-import co.elastic.apm.api.ElasticApm;
-import co.elastic.apm.api.Span;
+import com.meli.provider.model.ServiceErrorModel;
+import com.meli.provider.sink.TraceabilitySink;
 
 /**
  * Implementación de la interfaz {@link ServiceErrorProvider} que proporciona
  * operaciones para registrar errores de servicio.
  *
  * <p>
- * Esta clase se encarga de interactuar con el repositorio de errores de
- * servicio y utiliza un mapeador para convertir
- * entre entidades del repositorio y objetos de dominio de errores de servicio.
- * También mide el tiempo de ejecución de
- * la operación y registra eventos relacionados con errores de servicio.
+ * Esta clase utiliza un mapeador para convertir entre objetos de dominio de
+ * errores de servicio y modelos de la base de datos, y entrega los modelos a un
+ * {@link TraceabilitySink} configurado, que los escribe de forma diferida. Cada
+ * registro recibe su identificador y fecha de creación en el cliente para que la
+ * escritura sea idempotente.
+ * </p>
+ *
+ * <p>
+ * Los errores con huella solo guardan una referencia a ella; su traza completa se guarda una vez por
+ * huella (ver {@link ServiceErrorFingerprintRegistry}). Si la huella no puede registrarse, el
+ * registro guarda la traza completa.
  * </p>
  *
  * @see ServiceErrorProvider
@@ -26,22 +35,26 @@ import co.elastic.apm.api.Span;
 @Component
 public class ServiceErrorProviderImpl implements ServiceErrorProvider {
 
-    private final ServiceErrorRepository serviceErrorRepository;
     private final ServiceErrorMapper serviceErrorMapper;
+    private final TraceabilitySink traceabilitySink;
+    private final ServiceErrorFingerprintRegistry fingerprintRegistry;
 
-    public ServiceErrorProviderImpl(ServiceErrorRepository serviceErrorRepository,
-            ServiceErrorMapper serviceErrorMapper) {
-        this.serviceErrorRepository = serviceErrorRepository;
+    public ServiceErrorProviderImpl(ServiceErrorMapper serviceErrorMapper, TraceabilitySink traceabilitySink,
+            ServiceErrorFingerprintRegistry fingerprintRegistry) {
         this.serviceErrorMapper = serviceErrorMapper;
+        this.traceabilitySink = traceabilitySink;
+        this.fingerprintRegistry = fingerprintRegistry;
     }
 
     @Override
     public void createServiceError(ServiceError serviceError) {
-        Span span = ElasticApm.currentSpan().startSpan("db", "mongodb", "save");
-        span.setName("MongoDB Save Service Error");
-        serviceErrorRepository.save(serviceErrorMapper.toModel(serviceError))
-                .doOnError(Exception.class, span::captureException)
-                .doFinally(signalType -> span.end())
-                .subscribe();
+        ServiceErrorModel model = serviceErrorMapper.toModel(serviceError);
+        model.setId(new ObjectId().toHexString());
+        model.setCreatedAt(LocalDateTime.now());
+        ErrorFingerprint fingerprint = serviceError.getFingerprint();
+        if (fingerprint != null && model.getStackTrace() == null && !fingerprintRegistry.record(fingerprint)) {
+            model.setStackTrace(fingerprint.getStackTrace());
+        }
+        traceabilitySink.writeServiceError(model);
     }
 }
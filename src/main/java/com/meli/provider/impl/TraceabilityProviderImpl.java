@@ -1,41 +1,40 @@
 package com.meli.provider.impl;
 
+import java.time.LocalDateTime;
+
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Component;
 
 import com.meli.core.entity.Traceability;
 import com.meli.provider.TraceabilityProvider;
 import com.meli.provider.mapper.TraceabilityMapper;
-import com.meli.provider.repository.TraceabilityRepository;
-
-import co.elastic.apm.api.ElasticApm;
-import co.elastic.apm.api.Span;
+import com.meli.provider.model.TraceabilityModel;
+import com.meli.provider.sink.TraceabilitySink;
 
 /**
  * Implementación de la interfaz {@link TraceabilityProvider} que proporciona operaciones para registrar trazabilidad.
  *
- * <p>Esta clase se encarga de interactuar con el repositorio de trazabilidad y utiliza un mapeador para convertir entre
- * entidades del repositorio y objetos de dominio de trazabilidad. También mide el tiempo de ejecución de la operación y
- * registra eventos relacionados con la trazabilidad.</p>
+ * <p>Esta clase utiliza un mapeador para convertir entre objetos de dominio de trazabilidad y modelos de la base de
+ * datos, y entrega los modelos a un {@link TraceabilitySink} configurado, que los escribe de forma diferida. Cada registro
+ * recibe su identificador y fecha de creación en el cliente para que la escritura sea idempotente.</p>
  *
  * @see TraceabilityProvider
  */
 @Component
 public class TraceabilityProviderImpl implements TraceabilityProvider {
-    private final TraceabilityRepository traceabilityRepository;
     private final TraceabilityMapper traceabilityMapper;
+    private final TraceabilitySink traceabilitySink;
 
-    public TraceabilityProviderImpl(TraceabilityRepository traceabilityRepository, TraceabilityMapper traceabilityMapper) {
-        this.traceabilityRepository = traceabilityRepository;
+    public TraceabilityProviderImpl(TraceabilityMapper traceabilityMapper, TraceabilitySink traceabilitySink) {
         this.traceabilityMapper = traceabilityMapper;
+        this.traceabilitySink = traceabilitySink;
     }
 
     @Override
     public void createTraceability(Traceability traceability) {
-        Span span = ElasticApm.currentSpan().startSpan("db", "mongodb", "save");
-        span.setName("MongoDB Save Traceability " + traceability.getTask());
-        traceabilityRepository.save(traceabilityMapper.toModel(traceability))
-                .doOnError(Exception.class, span::captureException)
-                .doFinally(signalType -> span.end())
-                .subscribe();
+        TraceabilityModel model = traceabilityMapper.toModel(traceability);
+        model.setId(new ObjectId().toHexString());
+        model.setCreatedAt(LocalDateTime.now());
+        traceabilitySink.writeTraceability(model);
     }
 }
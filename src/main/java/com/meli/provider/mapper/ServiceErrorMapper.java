@@ -40,6 +40,7 @@ public class ServiceErrorMapper implements Mapper<ServiceError, ServiceErrorMode
                 .errorMethod(entity.getErrorMethod())
                 .message(entity.getMessage())
                 .stackTrace(entity.getStackTrace())
+                .fingerprint(entity.getFingerprint() != null ? entity.getFingerprint().getId() : null)
                 .request(entity.getRequest())
                 .response(entity.getResponse())
                 .build() : null;
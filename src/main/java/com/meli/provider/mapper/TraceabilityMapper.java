@@ -3,6 +3,8 @@ package com.meli.provider.mapper;
 import org.springframework.stereotype.Component;
 
 import com.meli.core.entity.Traceability;
+import com.meli.core.entity.TraceabilityEvent;
+import com.meli.provider.model.TraceabilityEventModel;
 import com.meli.provider.model.TraceabilityModel;
 
 /**
@@ -39,6 +41,21 @@ public class TraceabilityMapper implements Mapper<Traceability, TraceabilityMode
                 .request(entity.getRequest())
                 .response(entity.getResponse())
                 .durationMillis(entity.getDurationMillis())
+                .events(entity.getEvents() != null
+                        ? entity.getEvents().stream().map(this::toEventModel).toList()
+                        : null)
+                .droppedEvents(entity.getDroppedEvents())
                 .build() : null;
     }
+
+    private TraceabilityEventModel toEventModel(TraceabilityEvent event) {
+        return TraceabilityEventModel.builder()
+                .task(event.getTask())
+                .status(event.getStatus())
+                .offsetMillis(event.getOffsetMillis())
+                .request(event.getRequest())
+                .response(event.getResponse())
+                .durationMillis(event.getDurationMillis())
+                .build();
+    }
 }
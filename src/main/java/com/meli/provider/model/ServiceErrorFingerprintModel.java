@@ -0,0 +1,32 @@
+package com.meli.provider.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Clase que representa un error de servicio agrupado por su huella en la capa de proveedores.
+ *
+ * Se guarda un documento por huella con la traza completa de la primera ocurrencia; las ocurrencias
+ * siguientes solo incrementan {@code count} y actualizan {@code lastSeen}. Cada registro de
+ * {@link ServiceErrorModel} referencia su huella en el campo {@code fingerprint}.
+ *
+ * @see com.meli.common.utils.fingerprint.ErrorFingerprint
+ */
+@Data
+@Builder
+@Document(collection = "coll_service_error_fingerprint")
+public class ServiceErrorFingerprintModel {
+    @Id
+    private String id;
+    private String errorClass;
+    private String messageTemplate;
+    private String stackTrace;
+    private long count;
+    private LocalDateTime firstSeen;
+    private LocalDateTime lastSeen;
+}
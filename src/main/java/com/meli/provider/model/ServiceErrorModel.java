@@ -12,6 +12,9 @@ import org.springframework.http.HttpMethod;
 
 import com.meli.common.utils.tasks.Task;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
 import java.time.LocalDateTime;
 
 /**
@@ -38,12 +41,14 @@ public class ServiceErrorModel {
     private String transactionId;
     private Boolean success;
     private String origin;
+    @JsonSerialize(using = ToStringSerializer.class)
     private HttpMethod method;
     private Task task;
     private String errorClass;
     private String errorMethod;
     private String message;
     private String stackTrace;
+    private String fingerprint;
     private Object request;
     private Object response;
     @CreatedDate
@@ -0,0 +1,26 @@
+package com.meli.provider.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import com.meli.common.utils.enums.TraceabilityStatus;
+import com.meli.common.utils.tasks.TraceabilityTask;
+
+/**
+ * Clase que representa un evento embebido en el documento de trazabilidad de una transacción.
+ *
+ * Contiene la tarea de trazabilidad, su estado, el desplazamiento en milisegundos desde el
+ * inicio de la transacción y, si aplica, la solicitud, la respuesta y la duración del evento.
+ *
+ * @see TraceabilityModel
+ */
+@Data
+@Builder
+public class TraceabilityEventModel {
+    private TraceabilityTask task;
+    private TraceabilityStatus status;
+    private long offsetMillis;
+    private Object request;
+    private Object response;
+    private Long durationMillis;
+}
@@ -12,7 +12,11 @@ import org.springframework.http.HttpMethod;
 import com.meli.common.utils.enums.TraceabilityStatus;
 import com.meli.common.utils.tasks.TraceabilityTask;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Clase que representa un modelo de trazabilidad en la capa de proveedores de la aplicación.
@@ -20,7 +24,7 @@ import java.time.LocalDateTime;
  * Esta clase se utiliza para mapear y almacenar registros de trazabilidad en la base de datos MongoDB.
  * Contiene campos como el identificador de transacción, el estado de trazabilidad, el origen, el método HTTP,
  * la tarea de trazabilidad, la solicitud y respuesta relacionadas, la duración en milisegundos,
- * y marcas de tiempo de creación y actualización.
+ * los eventos de la transacción y marcas de tiempo de creación y actualización.
  *
  * @see org.springframework.data.annotation.Id
  * @see org.springframework.data.mongodb.core.mapping.Document
@@ -36,11 +40,14 @@ public class TraceabilityModel {
     private String transactionId;
     private TraceabilityStatus status;
     private String origin;
+    @JsonSerialize(using = ToStringSerializer.class)
     private HttpMethod method;
     private TraceabilityTask task;
     private Object request;
     private Object response;
     private Long durationMillis;
+    private List<TraceabilityEventModel> events;
+    private Integer droppedEvents;
     @CreatedDate
     private LocalDateTime createdAt;
     @LastModifiedDate
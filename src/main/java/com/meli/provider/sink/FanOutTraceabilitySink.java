@@ -0,0 +1,50 @@
+package com.meli.provider.sink;
+
+import java.util.List;
+
+import com.meli.provider.model.ServiceErrorFingerprintModel;
+import com.meli.provider.model.ServiceErrorModel;
+import com.meli.provider.model.TraceabilityModel;
+
+/**
+ * Destino que entrega cada registro a varios destinos. Cada destino conserva su propia cola y
+ * contrapresión, por lo que uno lento no frena a los demás.
+ */
+public class FanOutTraceabilitySink implements TraceabilitySink {
+
+    private final List<TraceabilitySink> sinks;
+
+    public FanOutTraceabilitySink(List<TraceabilitySink> sinks) {
+        this.sinks = List.copyOf(sinks);
+    }
+
+    @Override
+    public void writeTraceability(TraceabilityModel traceability) {
+        for (TraceabilitySink sink : sinks) {
+            sink.writeTraceability(traceability);
+        }
+    }
+
+    @Override
+    public void writeServiceError(ServiceErrorModel serviceError) {
+        for (TraceabilitySink sink : sinks) {
+            sink.writeServiceError(serviceError);
+        }
+    }
+
+    @Override
+    public void writeServiceErrorFingerprints(List<ServiceErrorFingerprintModel> fingerprints) {
+        for (TraceabilitySink sink : sinks) {
+            sink.writeServiceErrorFingerprints(fingerprints);
+        }
+    }
+
+    @Override
+    public void close() {
+        sinks.forEach(TraceabilitySink::close);
+    }
+
+    public List<TraceabilitySink> getSinks() {
+        return sinks;
+    }
+}
@@ -0,0 +1,91 @@
+package com.meli.provider.sink;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import com.meli.common.configuration.TraceabilitySinkConfig;
+import com.meli.common.utils.tasks.TaskService;
+import com.meli.provider.model.ServiceErrorFingerprintModel;
+import com.meli.provider.model.ServiceErrorModel;
+import com.meli.provider.model.TraceabilityModel;
+
+/**
+ * Destino que escribe los registros en archivos NDJSON locales con rotación por tamaño, uno por
+ * colección. En los archivos de trazabilidad y de errores de servicio cada línea es el mismo
+ * documento que se guardaría en MongoDB, por lo que pueden importarse directamente con
+ * {@code mongoimport}.
+ *
+ * <p>Los contadores por huella se escriben como incrementos, un documento por huella y entrega, por
+ * lo que una misma huella aparece en varias líneas con un {@code count} parcial. Esas líneas no
+ * llevan {@code _id}: el identificador de la huella va en el campo {@code fingerprint}. Deben
+ * importarse en una colección intermedia y consolidarse en {@code coll_service_error_fingerprint}
+ * agrupando por {@code fingerprint}: se suma {@code count}, se toma el menor {@code firstSeen}, el
+ * mayor {@code lastSeen} y la primera traza. Por ejemplo, con un {@code $group} seguido de
+ * {@code $merge}.</p>
+ */
+public class FileTraceabilitySink implements TraceabilitySink {
+
+    private final NdjsonFileWriter<TraceabilityModel> traceabilityWriter;
+    private final NdjsonFileWriter<ServiceErrorModel> serviceErrorWriter;
+    private final NdjsonFileWriter<ServiceErrorFingerprintModel> fingerprintWriter;
+
+    public FileTraceabilitySink(MongoConverter converter, TaskService taskService,
+            TraceabilitySinkConfig.FileSink config) {
+        this.traceabilityWriter = new NdjsonFileWriter<>("traceability", model -> toJson(converter, model),
+                taskService.getTask("CREATE_TRACEABILITY"), config);
+        this.serviceErrorWriter = new NdjsonFileWriter<>("service-error", model -> toJson(converter, model),
+                taskService.getTask("CREATE_SERVICE_ERROR"), config);
+        this.fingerprintWriter = new NdjsonFileWriter<>("service-error-fingerprint",
+                model -> toFingerprintJson(converter, model), taskService.getTask("CREATE_SERVICE_ERROR"), config);
+    }
+
+    @Override
+    public void writeTraceability(TraceabilityModel traceability) {
+        traceabilityWriter.write(traceability);
+    }
+
+    @Override
+    public void writeServiceError(ServiceErrorModel serviceError) {
+        serviceErrorWriter.write(serviceError);
+    }
+
+    @Override
+    public void writeServiceErrorFingerprints(List<ServiceErrorFingerprintModel> fingerprints) {
+        fingerprints.forEach(fingerprintWriter::write);
+    }
+
+    @Override
+    public void close() {
+        traceabilityWriter.close(Duration.ofSeconds(5));
+        serviceErrorWriter.close(Duration.ofSeconds(5));
+        fingerprintWriter.close(Duration.ofSeconds(5));
+    }
+
+    public NdjsonFileWriter<TraceabilityModel> getTraceabilityWriter() {
+        return traceabilityWriter;
+    }
+
+    public NdjsonFileWriter<ServiceErrorModel> getServiceErrorWriter() {
+        return serviceErrorWriter;
+    }
+
+    private static String toJson(MongoConverter converter, Object model) {
+        Document document = new Document();
+        converter.write(model, document);
+        return document.toJson();
+    }
+
+    /**
+     * Serializa un incremento de huella sin {@code _id}, que se repite entre entregas.
+     */
+    private static String toFingerprintJson(MongoConverter converter, ServiceErrorFingerprintModel model) {
+        Document document = new Document();
+        converter.write(model, document);
+        Document delta = new Document("fingerprint", document.remove("_id"));
+        delta.putAll(document);
+        return delta.toJson();
+    }
+}
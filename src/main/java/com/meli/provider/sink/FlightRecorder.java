@@ -0,0 +1,98 @@
+package com.meli.provider.sink;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.meli.common.configuration.FlightRecorderConfig;
+import com.meli.common.utils.enums.TraceabilityStatus;
+import com.meli.provider.model.ServiceErrorModel;
+import com.meli.provider.model.TraceabilityModel;
+
+/**
+ * Destino que conserva en memoria los últimos registros de trazabilidad y errores de servicio,
+ * con sus duraciones y eventos, para consultarlos durante un incidente sin cargar la base de datos.
+ *
+ * <p>Solo se crea con {@code app.flight-recorder.enabled=true}; en ese caso
+ * {@link com.meli.common.configuration.TraceabilitySinkConfiguration} le entrega cada registro además del
+ * destino configurado.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.flight-recorder", name = "enabled", havingValue = "true")
+public class FlightRecorder implements TraceabilitySink {
+
+    private final RecordRingBuffer<TraceabilityModel> traceability;
+    private final RecordRingBuffer<ServiceErrorModel> serviceErrors;
+    private final int maxResults;
+
+    public FlightRecorder(FlightRecorderConfig config) {
+        this.traceability = new RecordRingBuffer<>(config.getCapacity());
+        this.serviceErrors = new RecordRingBuffer<>(config.getCapacity());
+        this.maxResults = Math.max(1, config.getMaxResults());
+    }
+
+    @Override
+    public void writeTraceability(TraceabilityModel model) {
+        traceability.add(model);
+    }
+
+    @Override
+    public void writeServiceError(ServiceErrorModel model) {
+        serviceErrors.add(model);
+    }
+
+    @Override
+    public void close() {
+        // Los registros solo viven en memoria
+    }
+
+    /**
+     * Busca los registros de trazabilidad más recientes. Los filtros nulos no se aplican.
+     *
+     * @param transactionId El identificador de transacción exacto.
+     * @param origin        El prefijo del origen de la solicitud.
+     * @param status        El estado de la trazabilidad.
+     * @param limit         El máximo de registros; se acota a {@code max-results}.
+     * @return Los registros encontrados, del más nuevo al más antiguo.
+     */
+    public List<TraceabilityModel> findTraceability(String transactionId, String origin, TraceabilityStatus status,
+            Integer limit) {
+        return traceability.find(model -> matches(model.getTransactionId(), model.getOrigin(), transactionId, origin)
+                && (status == null || status == model.getStatus()), limit(limit));
+    }
+
+    /**
+     * Busca los errores de servicio más recientes. Los filtros nulos no se aplican.
+     *
+     * @param transactionId El identificador de transacción exacto.
+     * @param origin        El prefijo del origen del error.
+     * @param success       El resultado registrado con el error.
+     * @param limit         El máximo de registros; se acota a {@code max-results}.
+     * @return Los registros encontrados, del más nuevo al más antiguo.
+     */
+    public List<ServiceErrorModel> findServiceErrors(String transactionId, String origin, Boolean success,
+            Integer limit) {
+        return serviceErrors.find(model -> matches(model.getTransactionId(), model.getOrigin(), transactionId, origin)
+                && (success == null || success.equals(model.getSuccess())), limit(limit));
+    }
+
+    public RecordRingBuffer<TraceabilityModel> getTraceability() {
+        return traceability;
+    }
+
+    public RecordRingBuffer<ServiceErrorModel> getServiceErrors() {
+        return serviceErrors;
+    }
+
+    private int limit(Integer limit) {
+        return limit == null || limit <= 0 ? maxResults : Math.min(limit, maxResults);
+    }
+
+    private static boolean matches(String recordTransactionId, String recordOrigin, String transactionId,
+            String origin) {
+        return (transactionId == null || Objects.equals(transactionId, recordTransactionId))
+                && (origin == null || (recordOrigin != null && recordOrigin.startsWith(origin)));
+    }
+}
@@ -0,0 +1,178 @@
+package com.meli.provider.sink;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.meli.common.configuration.BatchWriterConfig;
+import com.meli.common.utils.enums.LogLevel;
+import com.meli.common.utils.log.ServiceLogger;
+import com.meli.common.utils.tasks.Task;
+import com.meli.common.utils.tasks.TaskService;
+import com.meli.provider.model.ServiceErrorFingerprintModel;
+import com.meli.provider.model.ServiceErrorModel;
+import com.meli.provider.model.TraceabilityModel;
+import com.meli.provider.template.MongoBatchWriter;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Destino que escribe los registros en MongoDB mediante un {@link MongoBatchWriter} por colección.
+ * Los contadores por huella de los errores de servicio se guardan con un upsert masivo por entrega;
+ * si falla, los contadores se conservan y se suman a la entrega siguiente, y el cierre espera los
+ * upserts en vuelo y reintenta los pendientes.
+ */
+public class MongoTraceabilitySink implements TraceabilitySink {
+
+    private final MongoBatchWriter<TraceabilityModel> traceabilityWriter;
+    private final MongoBatchWriter<ServiceErrorModel> serviceErrorWriter;
+    private final ServiceLogger<?> logger = new ServiceLogger<>(MongoTraceabilitySink.class);
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final Task serviceErrorTask;
+    private final Duration writeTimeout;
+    // Contadores por huella de upserts fallidos, protegidos por el monitor del destino
+    private final Map<String, ServiceErrorFingerprintModel> pendingFingerprints = new LinkedHashMap<>();
+    private final AtomicInteger inFlightFingerprints = new AtomicInteger();
+
+    public MongoTraceabilitySink(ReactiveMongoTemplate reactiveMongoTemplate, TaskService taskService,
+            BatchWriterConfig batchWriterConfig) {
+        this.traceabilityWriter = new MongoBatchWriter<>("traceability", reactiveMongoTemplate,
+                TraceabilityModel.class, taskService.getTask("CREATE_TRACEABILITY"), batchWriterConfig);
+        this.serviceErrorWriter = new MongoBatchWriter<>("service-error", reactiveMongoTemplate,
+                ServiceErrorModel.class, taskService.getTask("CREATE_SERVICE_ERROR"), batchWriterConfig);
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        this.serviceErrorTask = taskService.getTask("CREATE_SERVICE_ERROR");
+        this.writeTimeout = Duration.ofMillis(batchWriterConfig.getWriteTimeoutMillis());
+    }
+
+    @Override
+    public void writeTraceability(TraceabilityModel traceability) {
+        traceabilityWriter.write(traceability);
+    }
+
+    @Override
+    public void writeServiceError(ServiceErrorModel serviceError) {
+        serviceErrorWriter.write(serviceError);
+    }
+
+    @Override
+    public void writeServiceErrorFingerprints(List<ServiceErrorFingerprintModel> fingerprints) {
+        List<ServiceErrorFingerprintModel> batch = withPendingFingerprints(fingerprints);
+        inFlightFingerprints.incrementAndGet();
+        try {
+            upsertFingerprints(batch, writeTimeout)
+                    .doFinally(signal -> inFlightFingerprints.decrementAndGet())
+                    .subscribe(result -> {
+                    }, e -> retainFingerprints(batch, e));
+        } catch (RuntimeException e) {
+            inFlightFingerprints.decrementAndGet();
+            retainFingerprints(batch, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        // Un upsert en vuelo que falla devuelve sus contadores a los pendientes: se espera antes de reintentarlos
+        while (inFlightFingerprints.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        List<ServiceErrorFingerprintModel> pending = withPendingFingerprints(List.of());
+        if (!pending.isEmpty()) {
+            try {
+                upsertFingerprints(pending, Duration.ofNanos(Math.max(1, deadline - System.nanoTime())))
+                        .onErrorResume(e -> {
+                            logFingerprintError(pending.size(), e);
+                            return Mono.empty();
+                        })
+                        .block();
+            } catch (RuntimeException e) {
+                logFingerprintError(pending.size(), e);
+            }
+        }
+        traceabilityWriter.close(Duration.ofSeconds(5));
+        serviceErrorWriter.close(Duration.ofSeconds(5));
+    }
+
+    public MongoBatchWriter<TraceabilityModel> getTraceabilityWriter() {
+        return traceabilityWriter;
+    }
+
+    public MongoBatchWriter<ServiceErrorModel> getServiceErrorWriter() {
+        return serviceErrorWriter;
+    }
+
+    public synchronized int getPendingFingerprints() {
+        return pendingFingerprints.size();
+    }
+
+    private Mono<?> upsertFingerprints(List<ServiceErrorFingerprintModel> fingerprints, Duration timeout) {
+        ReactiveBulkOperations operations = reactiveMongoTemplate.bulkOps(BulkMode.UNORDERED,
+                ServiceErrorFingerprintModel.class);
+        for (ServiceErrorFingerprintModel fingerprint : fingerprints) {
+            operations.upsert(Query.query(Criteria.where("_id").is(fingerprint.getId())), new Update()
+                    .setOnInsert("errorClass", fingerprint.getErrorClass())
+                    .setOnInsert("messageTemplate", fingerprint.getMessageTemplate())
+                    .setOnInsert("stackTrace", fingerprint.getStackTrace())
+                    .setOnInsert("firstSeen", fingerprint.getFirstSeen())
+                    .inc("count", fingerprint.getCount())
+                    .max("lastSeen", fingerprint.getLastSeen()));
+        }
+        return operations.execute().timeout(timeout);
+    }
+
+    /**
+     * Combina una entrega con los contadores pendientes de upserts fallidos, que quedan vaciados.
+     * Los modelos recibidos no se modifican: otro destino puede estar escribiéndolos.
+     */
+    private synchronized List<ServiceErrorFingerprintModel> withPendingFingerprints(
+            List<ServiceErrorFingerprintModel> fingerprints) {
+        if (pendingFingerprints.isEmpty()) {
+            return fingerprints;
+        }
+        for (ServiceErrorFingerprintModel fingerprint : fingerprints) {
+            pendingFingerprints.merge(fingerprint.getId(), fingerprint, MongoTraceabilitySink::merge);
+        }
+        List<ServiceErrorFingerprintModel> batch = new ArrayList<>(pendingFingerprints.values());
+        pendingFingerprints.clear();
+        return batch;
+    }
+
+    private synchronized void retainFingerprints(List<ServiceErrorFingerprintModel> fingerprints, Throwable error) {
+        for (ServiceErrorFingerprintModel fingerprint : fingerprints) {
+            pendingFingerprints.merge(fingerprint.getId(), fingerprint, MongoTraceabilitySink::merge);
+        }
+        logFingerprintError(fingerprints.size(), error);
+    }
+
+    private void logFingerprintError(int count, Throwable error) {
+        logger.log("Error escribiendo " + count + " huellas de errores de servicio", serviceErrorTask,
+                LogLevel.ERROR, error.getMessage(), null);
+    }
+
+    private static ServiceErrorFingerprintModel merge(ServiceErrorFingerprintModel previous,
+            ServiceErrorFingerprintModel next) {
+        return ServiceErrorFingerprintModel.builder()
+                .id(previous.getId())
+                .errorClass(previous.getErrorClass())
+                .messageTemplate(previous.getMessageTemplate())
+                .stackTrace(previous.getStackTrace())
+                .count(previous.getCount() + next.getCount())
+                .firstSeen(previous.getFirstSeen())
+                .lastSeen(next.getLastSeen().isAfter(previous.getLastSeen()) ? next.getLastSeen()
+                        : previous.getLastSeen())
+                .build();
+    }
+}
@@ -0,0 +1,237 @@
+package com.meli.provider.sink;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.meli.common.configuration.TraceabilitySinkConfig;
+import com.meli.common.utils.enums.LogLevel;
+import com.meli.common.utils.log.ServiceLogger;
+import com.meli.common.utils.tasks.Task;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Escritor diferido de registros en archivos NDJSON (un documento JSON por línea).
+ *
+ * <p>
+ * Los registros se encolan en una cola acotada y sin bloqueos; un scheduler
+ * dedicado los serializa y los escribe en lotes cuando se alcanza el tamaño de
+ * lote o transcurre el intervalo de escritura. El archivo en uso se rota al
+ * superar el tamaño configurado, con el nombre {@code <name>-<epochMillis>-<n>.ndjson}.
+ * Cuando la cola está llena los registros se descartan y se contabilizan; un
+ * registro que no puede serializarse se contabiliza como fallido sin afectar al
+ * resto de su lote.
+ * </p>
+ *
+ * @param <T> El tipo de registro que se escribe.
+ */
+public class NdjsonFileWriter<T> {
+
+    private final ServiceLogger<?> logger = new ServiceLogger<>(NdjsonFileWriter.class);
+    private final String name;
+    private final Path directory;
+    private final Function<T, String> serializer;
+    private final Task task;
+    private final long maxFileBytes;
+    private final int queueCapacity;
+    private final int batchSize;
+
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private long reportedDropped;
+
+    // Solo se accede desde el scheduler del escritor
+    private BufferedWriter writer;
+    private Path currentFile;
+    private long currentBytes;
+    private long fileSequence;
+
+    private final Scheduler scheduler;
+    private final Disposable periodicFlush;
+
+    public NdjsonFileWriter(String name, Function<T, String> serializer, Task task,
+            TraceabilitySinkConfig.FileSink config) {
+        this.name = name;
+        this.directory = Path.of(config.getDirectory());
+        this.serializer = serializer;
+        this.task = task;
+        this.maxFileBytes = config.getMaxFileBytes();
+        this.queueCapacity = config.getQueueCapacity();
+        this.batchSize = Math.max(1, config.getBatchSize());
+        this.scheduler = Schedulers.newSingle(name + "-file-writer", true);
+        this.periodicFlush = scheduler.schedulePeriodically(this::periodicFlush,
+                config.getFlushIntervalMillis(), config.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Encola un registro para su escritura diferida.
+     *
+     * @param item El registro a escribir.
+     * @return {@code false} si la cola estaba llena y el registro se descartó.
+     */
+    public boolean write(T item) {
+        int depth = queueDepth.incrementAndGet();
+        if (depth > queueCapacity) {
+            queueDepth.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+        queue.offer(item);
+        if (depth >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flush);
+        }
+        return true;
+    }
+
+    /**
+     * Escribe los registros pendientes, cierra el archivo en uso y libera el
+     * scheduler, esperando como máximo el tiempo indicado.
+     *
+     * @param timeout El tiempo máximo de espera.
+     */
+    public void close(Duration timeout) {
+        periodicFlush.dispose();
+        try {
+            Mono.fromRunnable(() -> {
+                drain(Integer.MAX_VALUE);
+                closeFile();
+            }).subscribeOn(scheduler).block(timeout);
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public long getWritten() {
+        return written.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    private void periodicFlush() {
+        long droppedNow = dropped.sum();
+        if (droppedNow > reportedDropped) {
+            logger.log("Cola de escritura " + name + " llena, registros descartados: " + (droppedNow - reportedDropped),
+                    task, LogLevel.WARN, null, null);
+            reportedDropped = droppedNow;
+        }
+        flush();
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        drain(1);
+    }
+
+    private void drain(int maxBatches) {
+        for (int batches = 0; batches < maxBatches && queueDepth.get() > 0; batches++) {
+            int count = 0;
+            int unserializable = 0;
+            try {
+                T item;
+                while (count < batchSize && (item = queue.poll()) != null) {
+                    count++;
+                    String line = serialize(item);
+                    if (line != null) {
+                        writeLine(line);
+                    } else {
+                        unserializable++;
+                    }
+                }
+                if (writer != null) {
+                    writer.flush();
+                }
+                written.add(count - unserializable);
+                if (unserializable > 0) {
+                    logger.log("Registros " + name + " no serializables en el lote: " + unserializable, task,
+                            LogLevel.ERROR, null, null);
+                }
+            } catch (IOException | RuntimeException e) {
+                // Las líneas del lote no confirmadas por el flush se consideran perdidas
+                failed.add(count - unserializable);
+                logger.log("Error escribiendo lote " + name + " en " + currentFile, task, LogLevel.ERROR,
+                        e.getMessage(), null);
+                closeFile();
+            } finally {
+                queueDepth.addAndGet(-count);
+            }
+        }
+    }
+
+    /**
+     * Serializa un registro; si falla, lo contabiliza como fallido.
+     *
+     * @return La línea, o {@code null} si el registro no pudo serializarse.
+     */
+    private String serialize(T item) {
+        try {
+            return serializer.apply(item);
+        } catch (RuntimeException e) {
+            failed.increment();
+            return null;
+        }
+    }
+
+    private void writeLine(String line) throws IOException {
+        if (writer == null || currentBytes >= maxFileBytes) {
+            roll();
+        }
+        writer.write(line);
+        writer.write('\n');
+        // Aproximación suficiente para rotar; evita codificar dos veces cada línea
+        currentBytes += line.length() + 1L;
+    }
+
+    private void roll() throws IOException {
+        closeFile();
+        Files.createDirectories(directory);
+        // La secuencia evita colisiones entre rotaciones en el mismo milisegundo
+        currentFile = directory.resolve(name + "-" + System.currentTimeMillis() + "-" + fileSequence++ + ".ndjson");
+        writer = Files.newBufferedWriter(currentFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        currentBytes = Files.size(currentFile);
+    }
+
+    private void closeFile() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.log("Error cerrando el archivo " + currentFile, task, LogLevel.WARN, e.getMessage(), null);
+            }
+            writer = null;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.meli.provider.sink;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.meli.provider.model.ServiceErrorModel;
+import com.meli.provider.model.TraceabilityModel;
+
+/**
+ * Destino que descarta los registros y solo los contabiliza.
+ */
+public class NoopTraceabilitySink implements TraceabilitySink {
+
+    private final LongAdder discarded = new LongAdder();
+
+    @Override
+    public void writeTraceability(TraceabilityModel traceability) {
+        discarded.increment();
+    }
+
+    @Override
+    public void writeServiceError(ServiceErrorModel serviceError) {
+        discarded.increment();
+    }
+
+    @Override
+    public void close() {
+        // No hay recursos que liberar
+    }
+
+    public long getDiscarded() {
+        return discarded.sum();
+    }
+}
@@ -0,0 +1,72 @@
+package com.meli.provider.sink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Búfer circular de tamaño fijo y sin bloqueos que conserva los últimos registros agregados.
+ *
+ * <p>Cada escritura reserva una posición con un único incremento atómico y sobrescribe el
+ * registro más antiguo. Las lecturas recorren las posiciones desde la más reciente sin
+ * detener a los escritores; un registro sobrescrito durante la lectura puede aparecer en
+ * lugar del que ocupaba la posición, lo que es aceptable para diagnóstico.</p>
+ *
+ * @param <T> El tipo de registro conservado.
+ */
+public class RecordRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public RecordRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1) << 1);
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Agrega un registro, reemplazando al más antiguo si el búfer está lleno.
+     *
+     * @param item El registro a conservar.
+     */
+    public void add(T item) {
+        slots.lazySet((int) (sequence.getAndIncrement() & mask), item);
+    }
+
+    /**
+     * Obtiene los registros más recientes que cumplen el filtro, del más nuevo al más antiguo.
+     *
+     * @param filter El filtro a aplicar.
+     * @param limit  El máximo de registros devueltos.
+     * @return Los registros encontrados.
+     */
+    public List<T> find(Predicate<T> filter, int limit) {
+        List<T> result = new ArrayList<>(Math.min(limit, slots.length()));
+        long end = sequence.get();
+        long start = Math.max(0, end - slots.length());
+        for (long position = end - 1; position >= start && result.size() < limit; position--) {
+            T item = slots.get((int) (position & mask));
+            if (item != null && filter.test(item)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * Obtiene la cantidad total de registros agregados desde el inicio.
+     *
+     * @return El total de registros agregados.
+     */
+    public long getTotalAdded() {
+        return sequence.get();
+    }
+}
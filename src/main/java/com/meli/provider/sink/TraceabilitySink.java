@@ -0,0 +1,48 @@
+package com.meli.provider.sink;
+
+import java.util.List;
+
+import com.meli.provider.model.ServiceErrorFingerprintModel;
+import com.meli.provider.model.ServiceErrorModel;
+import com.meli.provider.model.TraceabilityModel;
+
+/**
+ * La interfaz TraceabilitySink define el destino al que los proveedores entregan los registros
+ * de trazabilidad y errores de servicio.
+ *
+ * <p>Las implementaciones no deben bloquear al llamador: cada destino administra su propia cola,
+ * lotes y control de contrapresión. Los registros llegan con su identificador y fecha de creación
+ * asignados.</p>
+ */
+public interface TraceabilitySink {
+
+    /**
+     * Entrega un registro de trazabilidad al destino.
+     *
+     * @param traceability El modelo de trazabilidad a escribir.
+     */
+    void writeTraceability(TraceabilityModel traceability);
+
+    /**
+     * Entrega un registro de error de servicio al destino.
+     *
+     * @param serviceError El modelo de error de servicio a escribir.
+     */
+    void writeServiceError(ServiceErrorModel serviceError);
+
+    /**
+     * Entrega los contadores acumulados de errores de servicio por huella. Cada modelo trae la
+     * cantidad de ocurrencias desde la entrega anterior; el destino debe sumarla a la existente y
+     * conservar la traza de la primera escritura. Por defecto se descartan.
+     *
+     * @param fingerprints Los contadores por huella.
+     */
+    default void writeServiceErrorFingerprints(List<ServiceErrorFingerprintModel> fingerprints) {
+        // Destino sin almacenamiento de huellas
+    }
+
+    /**
+     * Escribe los registros pendientes y libera los recursos del destino.
+     */
+    void close();
+}
@@ -0,0 +1,6 @@
+/**
+ * Este paquete contiene los destinos (sinks) de los registros de trazabilidad y errores de servicio.
+ * Cada destino implementa {@link com.meli.provider.sink.TraceabilitySink} y se selecciona mediante
+ * propiedades, de modo que los proveedores mantengan la misma API sin depender del almacenamiento.
+ */
+package com.meli.provider.sink;
@@ -0,0 +1,440 @@
+package com.meli.provider.template;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import com.meli.common.configuration.BatchWriterConfig;
+import com.meli.common.utils.enums.LogLevel;
+import com.meli.common.utils.log.ServiceLogger;
+import com.meli.common.utils.tasks.Task;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.model.InsertManyOptions;
+
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Plantilla de escritura diferida por lotes en MongoDB.
+ *
+ * <p>
+ * Los registros se encolan en una cola acotada y sin bloqueos; un scheduler
+ * dedicado la vacía en lotes no ordenados (una única operación de escritura
+ * masiva por lote) cuando se alcanza el tamaño de lote o transcurre el intervalo
+ * de escritura, limitando los lotes en vuelo. Cuando la cola está llena los
+ * registros se descartan y se contabilizan, de modo que una base de datos lenta
+ * nunca acumule operaciones pendientes sin límite.
+ * </p>
+ *
+ * <p>
+ * Si el diario local está activo, los registros que no caben en la cola y los
+ * lotes que fallan o exceden el tiempo de escritura se guardan en un
+ * {@link SpillJournal} en lugar de descartarse, y se reproducen en segundo plano
+ * cuando MongoDB vuelve a responder. La escritura en el diario puede bloquear en
+ * disco, por lo que nunca ocurre en el hilo que encola: los registros pasan por
+ * una segunda cola acotada que el scheduler del escritor vuelca al diario.
+ * </p>
+ *
+ * <p>
+ * Cada {@code status-interval-millis} se registra una línea de estado con la
+ * profundidad de las colas, los lotes en vuelo, la latencia de escritura y los
+ * registros escritos, fallidos, descartados, derivados al diario y reproducidos
+ * en el período; los escritores sin actividad no la registran.
+ * </p>
+ *
+ * <p>
+ * Los registros deben llevar su identificador asignado por el cliente antes de
+ * encolarse, para que un reintento o una reproducción no generen duplicados.
+ * </p>
+ *
+ * @param <T> El tipo de modelo que se escribe.
+ */
+public class MongoBatchWriter<T> {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final ServiceLogger<?> logger = new ServiceLogger<>(MongoBatchWriter.class);
+    private final String name;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final Class<T> entityClass;
+    private final Task task;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final int maxInFlightBatches;
+    private final Duration writeTimeout;
+    private final SpillJournal journal;
+
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final Queue<T> spillQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger spillQueueDepth = new AtomicInteger();
+    private final AtomicBoolean spillScheduled = new AtomicBoolean();
+    private final AtomicInteger inFlightBatches = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicBoolean replaying = new AtomicBoolean();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final AtomicLong lastFlushMillis = new AtomicLong();
+    private final AtomicLong maxFlushMillis = new AtomicLong();
+    private final AtomicLong periodMaxFlushMillis = new AtomicLong();
+    // Solo los usa el scheduler del escritor
+    private long reportedDropped;
+    private final long[] reportedCounters = new long[5];
+
+    private final Scheduler scheduler;
+    private final Disposable periodicFlush;
+    private final Disposable periodicReplay;
+    private final Disposable periodicStatus;
+
+    public MongoBatchWriter(String name, ReactiveMongoTemplate reactiveMongoTemplate, Class<T> entityClass,
+            Task task, BatchWriterConfig config) {
+        this.name = name;
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        this.entityClass = entityClass;
+        this.task = task;
+        this.queueCapacity = config.getQueueCapacity();
+        this.batchSize = Math.max(1, config.getBatchSize());
+        this.maxInFlightBatches = Math.max(1, config.getMaxInFlightBatches());
+        this.writeTimeout = Duration.ofMillis(config.getWriteTimeoutMillis());
+        this.journal = config.isSpillEnabled()
+                ? new SpillJournal(Path.of(config.getSpillDirectory()), name, config.getSpillSegmentBytes())
+                : null;
+        this.scheduler = Schedulers.newSingle(name + "-writer", true);
+        this.periodicFlush = scheduler.schedulePeriodically(this::periodicFlush,
+                config.getFlushIntervalMillis(), config.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+        this.periodicReplay = journal != null
+                ? scheduler.schedulePeriodically(this::replay, config.getReplayIntervalMillis(),
+                        config.getReplayIntervalMillis(), TimeUnit.MILLISECONDS)
+                : Disposables.disposed();
+        this.periodicStatus = config.getStatusIntervalMillis() > 0
+                ? scheduler.schedulePeriodically(this::reportStatus, config.getStatusIntervalMillis(),
+                        config.getStatusIntervalMillis(), TimeUnit.MILLISECONDS)
+                : Disposables.disposed();
+    }
+
+    /**
+     * Encola un registro para su escritura diferida.
+     *
+     * @param item El registro a escribir, con su identificador ya asignado.
+     * @return {@code false} si la cola estaba llena y el registro no pudo
+     *         conservarse.
+     */
+    public boolean write(T item) {
+        int depth = queueDepth.incrementAndGet();
+        if (depth > queueCapacity) {
+            queueDepth.decrementAndGet();
+            if (enqueueSpill(item)) {
+                return true;
+            }
+            dropped.increment();
+            return false;
+        }
+        queue.offer(item);
+        if (depth >= batchSize) {
+            scheduleFlush();
+        }
+        return true;
+    }
+
+    /**
+     * Espera los lotes en vuelo, escribe los registros pendientes y libera el
+     * scheduler, esperando en total como máximo el tiempo indicado. Si la
+     * escritura falla, los registros pasan al diario local cuando está activo.
+     *
+     * @param timeout El tiempo máximo de espera.
+     */
+    public void close(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        periodicFlush.dispose();
+        periodicReplay.dispose();
+        periodicStatus.dispose();
+        // Un lote en vuelo que falla pasa al diario: se espera antes de cerrarlo
+        awaitInFlight(deadline);
+        List<T> batch = poll(queueCapacity);
+        if (!batch.isEmpty()) {
+            reactiveMongoTemplate.bulkOps(BulkMode.UNORDERED, entityClass)
+                    .insert(batch)
+                    .execute()
+                    .timeout(Duration.ofNanos(Math.max(1, deadline - System.nanoTime())))
+                    .doOnSuccess(result -> written.add(batch.size()))
+                    .onErrorResume(e -> {
+                        batch.forEach(this::spillOrFail);
+                        return Mono.empty();
+                    })
+                    .block();
+        }
+        if (journal != null) {
+            drainSpillQueue();
+            journal.flush();
+        }
+        scheduler.dispose();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public int getInFlightBatches() {
+        return inFlightBatches.get();
+    }
+
+    public long getWritten() {
+        return written.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getSpilled() {
+        return spilled.sum();
+    }
+
+    public long getReplayed() {
+        return replayed.sum();
+    }
+
+    public boolean hasSpillPending() {
+        return journal != null && journal.hasPending();
+    }
+
+    public long getLastFlushMillis() {
+        return lastFlushMillis.get();
+    }
+
+    public long getMaxFlushMillis() {
+        return maxFlushMillis.get();
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flush);
+        }
+    }
+
+    private void periodicFlush() {
+        long droppedNow = dropped.sum();
+        if (droppedNow > reportedDropped) {
+            logger.log("Cola de escritura " + name + " llena, registros descartados: " + (droppedNow - reportedDropped),
+                    task, LogLevel.WARN, null, null);
+            reportedDropped = droppedNow;
+        }
+        flush();
+    }
+
+    /**
+     * Registra el estado del escritor y lo acumulado desde el reporte anterior.
+     */
+    private void reportStatus() {
+        long[] counters = {written.sum(), failed.sum(), dropped.sum(), spilled.sum(), replayed.sum()};
+        boolean active = queueDepth.get() > 0 || inFlightBatches.get() > 0;
+        for (int i = 0; i < counters.length; i++) {
+            active |= counters[i] != reportedCounters[i];
+        }
+        long periodMax = periodMaxFlushMillis.getAndSet(0);
+        if (!active) {
+            return;
+        }
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("writer", name);
+        status.put("queueDepth", queueDepth.get());
+        status.put("spillQueueDepth", spillQueueDepth.get());
+        status.put("inFlightBatches", inFlightBatches.get());
+        status.put("lastFlushMillis", lastFlushMillis.get());
+        status.put("maxFlushMillis", periodMax);
+        status.put("written", counters[0] - reportedCounters[0]);
+        status.put("failed", counters[1] - reportedCounters[1]);
+        status.put("dropped", counters[2] - reportedCounters[2]);
+        status.put("spilled", counters[3] - reportedCounters[3]);
+        status.put("replayed", counters[4] - reportedCounters[4]);
+        status.put("spillPending", hasSpillPending());
+        System.arraycopy(counters, 0, reportedCounters, 0, counters.length);
+        logger.log("Estado de escritura " + name, task, LogLevel.INFO, status, null);
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        while (inFlightBatches.get() < maxInFlightBatches) {
+            List<T> batch = poll(batchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+            inFlightBatches.incrementAndGet();
+            long start = System.nanoTime();
+            reactiveMongoTemplate.bulkOps(BulkMode.UNORDERED, entityClass)
+                    .insert(batch)
+                    .execute()
+                    .timeout(writeTimeout)
+                    .doFinally(signalType -> {
+                        recordFlush(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                        inFlightBatches.decrementAndGet();
+                        if (queueDepth.get() >= batchSize) {
+                            scheduleFlush();
+                        }
+                    })
+                    .subscribe(
+                            result -> written.add(batch.size()),
+                            e -> {
+                                logger.log("Error escribiendo lote " + name + " de " + batch.size() + " registros",
+                                        task, LogLevel.ERROR, e.getMessage(), null);
+                                batch.forEach(this::spillLater);
+                            });
+        }
+    }
+
+    /**
+     * Reproduce en MongoDB un lote de registros del diario local. Los registros
+     * ya escritos en un intento anterior producen errores de clave duplicada, que
+     * se consideran exitosos.
+     */
+    private void replay() {
+        if (inFlightBatches.get() >= maxInFlightBatches || !journal.hasPending()
+                || !replaying.compareAndSet(false, true)) {
+            return;
+        }
+        List<byte[]> records = journal.peek(batchSize);
+        if (records.isEmpty()) {
+            replaying.set(false);
+            return;
+        }
+        List<Document> documents = records.stream()
+                .map(record -> Document.parse(new String(record, StandardCharsets.UTF_8)))
+                .toList();
+        reactiveMongoTemplate.getCollection(reactiveMongoTemplate.getCollectionName(entityClass))
+                .flatMap(collection -> Mono.from(collection.insertMany(documents,
+                        new InsertManyOptions().ordered(false))))
+                .timeout(writeTimeout)
+                .then(Mono.just(true))
+                .onErrorResume(MongoBulkWriteException.class, e -> Mono.just(e.getWriteErrors().stream()
+                        .allMatch(error -> error.getCode() == DUPLICATE_KEY)))
+                .onErrorReturn(false)
+                .publishOn(scheduler)
+                .doFinally(signalType -> replaying.set(false))
+                .subscribe(success -> {
+                    if (success) {
+                        journal.commit(records.size());
+                        replayed.add(records.size());
+                    }
+                });
+    }
+
+    /**
+     * Encola un registro para volcarlo al diario desde el scheduler del escritor.
+     *
+     * @return {@code false} si el diario no está activo o su cola está llena.
+     */
+    private boolean enqueueSpill(T item) {
+        if (journal == null) {
+            return false;
+        }
+        if (spillQueueDepth.incrementAndGet() > queueCapacity) {
+            spillQueueDepth.decrementAndGet();
+            return false;
+        }
+        spillQueue.offer(item);
+        if (spillScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.schedule(this::drainSpillQueue);
+            } catch (RejectedExecutionException e) {
+                // El escritor ya se cerró: no hay un event loop que proteger
+                drainSpillQueue();
+            }
+        }
+        return true;
+    }
+
+    private void spillLater(T item) {
+        if (!enqueueSpill(item)) {
+            failed.increment();
+        }
+    }
+
+    private void drainSpillQueue() {
+        spillScheduled.set(false);
+        T item;
+        while ((item = spillQueue.poll()) != null) {
+            spillQueueDepth.decrementAndGet();
+            spillOrFail(item);
+        }
+    }
+
+    /**
+     * Espera, como máximo hasta el instante indicado, que terminen los lotes y
+     * la reproducción en vuelo.
+     */
+    private void awaitInFlight(long deadline) {
+        while ((inFlightBatches.get() > 0 || replaying.get()) && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        if (inFlightBatches.get() > 0) {
+            logger.log("Cierre de " + name + " sin confirmar " + inFlightBatches.get() + " lotes en vuelo",
+                    task, LogLevel.WARN, null, null);
+        }
+    }
+
+    private void spillOrFail(T item) {
+        if (!spill(item)) {
+            failed.increment();
+        }
+    }
+
+    private boolean spill(T item) {
+        if (journal == null) {
+            return false;
+        }
+        Document document = new Document();
+        reactiveMongoTemplate.getConverter().write(item, document);
+        if (journal.append(document.toJson().getBytes(StandardCharsets.UTF_8))) {
+            spilled.increment();
+            return true;
+        }
+        return false;
+    }
+
+    private List<T> poll(int max) {
+        List<T> batch = new ArrayList<>(Math.min(max, Math.max(queueDepth.get(), 1)));
+        T item;
+        while (batch.size() < max && (item = queue.poll()) != null) {
+            batch.add(item);
+        }
+        queueDepth.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private void recordFlush(long millis) {
+        lastFlushMillis.set(millis);
+        maxFlushMillis.accumulateAndGet(millis, Math::max);
+        periodMaxFlushMillis.accumulateAndGet(millis, Math::max);
+    }
+}
@@ -0,0 +1,229 @@
+package com.meli.provider.template;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Diario local de solo escritura al final (append-only) sobre archivos mapeados
+ * en memoria, usado para conservar los registros que no pudieron escribirse en
+ * MongoDB.
+ *
+ * <p>
+ * El diario se divide en segmentos de tamaño fijo preasignados
+ * ({@code <nombre>-<n>.journal}). Cada registro se guarda como su longitud
+ * ({@code int}) y su CRC32 ({@code int}) seguidos de sus bytes; una longitud
+ * cero marca el final de los datos. Un registro cuya longitud o suma de
+ * verificación no es válida (por ejemplo, escrito a medias antes de una caída)
+ * también marca el final: la lectura se detiene ahí y la escritura lo
+ * sobrescribe. Los primeros {@value #HEADER_BYTES} bytes de cada segmento guardan la
+ * posición de lectura confirmada, de modo que tras un reinicio la reproducción
+ * continúa donde quedó. Los segmentos completamente reproducidos se eliminan.
+ * </p>
+ *
+ * <p>
+ * Las operaciones están sincronizadas y pueden bloquear en disco: el diario solo
+ * se usa en el camino lento, cuando MongoDB no responde, y nunca desde el hilo
+ * que atiende la solicitud.
+ * </p>
+ */
+public class SpillJournal {
+
+    private static final int HEADER_BYTES = Long.BYTES;
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES * 2;
+    private static final String SUFFIX = ".journal";
+
+    private final Path directory;
+    private final String name;
+    private final int segmentBytes;
+
+    private long writeSegment;
+    private MappedByteBuffer writeBuffer;
+    private long readSegment;
+    private MappedByteBuffer readBuffer;
+
+    public SpillJournal(Path directory, String name, int segmentBytes) {
+        this.directory = directory;
+        this.name = name;
+        this.segmentBytes = segmentBytes;
+        try {
+            Files.createDirectories(directory);
+            List<Long> segments = listSegments();
+            this.readSegment = segments.isEmpty() ? 0 : segments.get(0);
+            this.writeSegment = segments.isEmpty() ? 0 : segments.get(segments.size() - 1);
+            this.writeBuffer = map(writeSegment);
+            this.writeBuffer.position(endOfData(writeBuffer));
+            this.readBuffer = readSegment == writeSegment ? writeBuffer.duplicate() : map(readSegment);
+            this.readBuffer.position((int) Math.max(HEADER_BYTES, readBuffer.getLong(0)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No fue posible abrir el diario " + name + " en " + directory, e);
+        }
+    }
+
+    /**
+     * Agrega un registro al final del diario.
+     *
+     * @param record Los bytes del registro.
+     * @return {@code false} si el registro no cabe en un segmento o no pudo escribirse.
+     */
+    public synchronized boolean append(byte[] record) {
+        int required = RECORD_HEADER_BYTES + record.length;
+        if (required > segmentBytes - HEADER_BYTES - Integer.BYTES) {
+            return false;
+        }
+        try {
+            // Se reserva espacio para la marca de fin de datos
+            if (writeBuffer.remaining() < required + Integer.BYTES) {
+                writeBuffer.force();
+                writeSegment++;
+                writeBuffer = map(writeSegment);
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        writeBuffer.putInt(record.length);
+        writeBuffer.putInt((int) crc.getValue());
+        writeBuffer.put(record);
+        // Marca de fin explícita: tras una recuperación pueden quedar restos de un registro incompleto
+        writeBuffer.putInt(writeBuffer.position(), 0);
+        return true;
+    }
+
+    /**
+     * Indica si existen registros pendientes de reproducir.
+     *
+     * @return {@code true} si hay registros sin confirmar.
+     */
+    public synchronized boolean hasPending() {
+        return readSegment < writeSegment || readBuffer.position() < writeBuffer.position();
+    }
+
+    /**
+     * Lee, sin confirmarlos, hasta {@code max} registros desde la posición de
+     * lectura. Solo se leen registros de un segmento por llamada.
+     *
+     * @param max El máximo de registros a leer.
+     * @return Los registros leídos, en orden de escritura.
+     */
+    public synchronized List<byte[]> peek(int max) {
+        advanceExhaustedSegment();
+        List<byte[]> records = new ArrayList<>(Math.min(max, 64));
+        // En el segmento en escritura solo se lee hasta la posición del escritor
+        int limit = readSegment == writeSegment ? writeBuffer.position() : segmentBytes;
+        int position = readBuffer.position();
+        while (records.size() < max) {
+            int length = validLength(readBuffer, position, limit);
+            if (length < 0) {
+                break;
+            }
+            byte[] record = new byte[length];
+            readBuffer.get(position + RECORD_HEADER_BYTES, record);
+            records.add(record);
+            position += RECORD_HEADER_BYTES + length;
+        }
+        return records;
+    }
+
+    /**
+     * Confirma la reproducción de los primeros {@code count} registros devueltos
+     * por {@link #peek(int)} y persiste la nueva posición de lectura.
+     *
+     * @param count La cantidad de registros confirmados.
+     */
+    public synchronized void commit(int count) {
+        int position = readBuffer.position();
+        for (int i = 0; i < count; i++) {
+            position += RECORD_HEADER_BYTES + readBuffer.getInt(position);
+        }
+        readBuffer.position(position);
+        readBuffer.putLong(0, position);
+        advanceExhaustedSegment();
+    }
+
+    /**
+     * Fuerza la escritura a disco de los datos pendientes.
+     */
+    public synchronized void flush() {
+        writeBuffer.force();
+    }
+
+    private void advanceExhaustedSegment() {
+        while (readSegment < writeSegment) {
+            int position = readBuffer.position();
+            boolean exhausted = validLength(readBuffer, position, segmentBytes) < 0;
+            if (!exhausted) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(segmentPath(readSegment));
+                readSegment++;
+                readBuffer = readSegment == writeSegment ? writeBuffer.duplicate() : map(readSegment);
+                readBuffer.position((int) Math.max(HEADER_BYTES, readBuffer.getLong(0)));
+            } catch (IOException e) {
+                throw new UncheckedIOException("No fue posible avanzar el diario " + name, e);
+            }
+        }
+    }
+
+    private MappedByteBuffer map(long segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+            buffer.position(HEADER_BYTES);
+            return buffer;
+        }
+    }
+
+    private int endOfData(MappedByteBuffer buffer) {
+        int position = HEADER_BYTES;
+        int length;
+        while ((length = validLength(buffer, position, segmentBytes)) >= 0) {
+            position += RECORD_HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    /**
+     * Valida el registro que comienza en una posición.
+     *
+     * @return La longitud del registro, o {@code -1} si no hay un registro
+     *         completo y con su suma de verificación correcta antes del límite.
+     */
+    private static int validLength(MappedByteBuffer buffer, int position, int limit) {
+        if (position + RECORD_HEADER_BYTES > limit) {
+            return -1;
+        }
+        int length = buffer.getInt(position);
+        if (length <= 0 || length > limit - position - RECORD_HEADER_BYTES) {
+            return -1;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(position + RECORD_HEADER_BYTES, length));
+        return (int) crc.getValue() == buffer.getInt(position + Integer.BYTES) ? length : -1;
+    }
+
+    private List<Long> listSegments() throws IOException {
+        String prefix = name + "-";
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(file -> file.startsWith(prefix) && file.endsWith(SUFFIX))
+                    .map(file -> Long.parseLong(file.substring(prefix.length(), file.length() - SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%s-%06d%s", name, segment, SUFFIX));
+    }
+}